@@ -0,0 +1,116 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+
+/**
+ * Deterministic inputs for the benchmarks. Every input is shaped by the same
+ * knobs: the number of points, the depth of their call stacks and the size of
+ * their predecessor maps.
+ */
+public class BenchmarkInputs {
+    public static final long SEED = 42;
+    public static final List<FailureMode> MODES = List.of(
+            ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE),
+            ErrorFault.fromError(HttpError.INTERNAL_SERVER_ERROR));
+
+    private BenchmarkInputs() {
+    }
+
+    public static Map<String, Integer> predecessors(int index, int size) {
+        Map<String, Integer> predecessors = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            predecessors.put("service-" + ((index + i) % (size + 1)) + ":/call", i % 3);
+        }
+
+        return predecessors;
+    }
+
+    public static FaultInjectionPoint point(int index, int predecessorSize) {
+        return new FaultInjectionPoint("service-" + index, "/call", "",
+                predecessors(index, predecessorSize), 0);
+    }
+
+    /** The call stack shared by all generated points, of the given depth. */
+    public static FaultUid stack(int depth, int predecessorSize) {
+        FaultUid uid = new FaultUid(List.of(point(-1, predecessorSize)));
+        for (int i = 1; i < depth; i++) {
+            uid = uid.asChild(point(-1 - i, predecessorSize));
+        }
+
+        return uid;
+    }
+
+    /** Distinct uids below a common stack, so the stacks only differ in the last point. */
+    public static List<FaultUid> uids(int count, int depth, int predecessorSize) {
+        FaultUid parent = stack(Math.max(1, depth - 1), predecessorSize);
+        List<FaultUid> uids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uids.add(parent.asChild(point(i, predecessorSize)));
+        }
+
+        return uids;
+    }
+
+    /** A copy of the given uid, with equal but not identical points. */
+    public static FaultUid copy(FaultUid uid) {
+        List<FaultInjectionPoint> stack = new ArrayList<>();
+        for (var point : uid.stack()) {
+            stack.add(new FaultInjectionPoint(new String(point.destination()), point.signature(),
+                    point.payload(), point.predecessors().asMap(), point.count()));
+        }
+
+        return new FaultUid(stack);
+    }
+
+    /**
+     * A random call tree of the given number of points, in which no call stack
+     * is deeper than the given depth. Maps every point to its direct calls.
+     */
+    public static Map<FaultUid, List<FaultUid>> callTree(int count, int depth, int predecessorSize,
+            Random random) {
+        Map<FaultUid, List<FaultUid>> tree = new LinkedHashMap<>();
+        List<FaultUid> callers = new ArrayList<>();
+        FaultUid root = new FaultUid(List.of(point(0, predecessorSize)));
+        tree.put(root, new ArrayList<>());
+        callers.add(root);
+
+        for (int i = 1; i < count; i++) {
+            FaultUid parent = callers.get(random.nextInt(callers.size()));
+            FaultUid child = parent.asChild(point(i, predecessorSize));
+            tree.get(parent).add(child);
+            tree.put(child, new ArrayList<>());
+
+            if (child.stack().size() < Math.max(2, depth)) {
+                callers.add(child);
+            }
+        }
+
+        return tree;
+    }
+
+    public static Set<Fault> faultload(List<FaultUid> uids, Random random, int size) {
+        Set<Fault> faults = new LinkedHashSet<>();
+        List<FaultUid> shuffled = new ArrayList<>(uids);
+        Collections.shuffle(shuffled, random);
+
+        for (var uid : shuffled.subList(0, Math.min(size, shuffled.size()))) {
+            faults.add(new Fault(uid, MODES.get(random.nextInt(MODES.size()))));
+        }
+
+        return faults;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.strategy.components.PruneDecision;
+import dev.reynard.junit.strategy.store.DynamicAnalysisStore;
+
+/**
+ * Checks faultloads against a store holding the given number of redundant
+ * fault subsets, uid subsets and faultloads each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicAnalysisStoreBenchmark {
+    private static final int FAULTLOADS = 64;
+
+    @Param({ "32", "128" })
+    public int pointCount;
+
+    @Param({ "4" })
+    public int stackDepth;
+
+    @Param({ "0", "4" })
+    public int predecessors;
+
+    @Param({ "0", "16", "256" })
+    public int redundantSubsets;
+
+    @Param({ "4" })
+    public int faultloadSize;
+
+    private DynamicAnalysisStore store;
+    private List<Set<Fault>> faultloads;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkInputs.SEED);
+        List<FaultUid> uids = BenchmarkInputs.uids(pointCount, stackDepth, predecessors);
+        store = new DynamicAnalysisStore(BenchmarkInputs.MODES, true);
+
+        for (int i = 0; i < redundantSubsets; i++) {
+            Set<Fault> subset = BenchmarkInputs.faultload(uids, random, 3);
+            store.pruneFaultSubset(subset);
+            store.pruneFaultload(BenchmarkInputs.faultload(uids, random, faultloadSize));
+
+            Set<FaultUid> uidSubset = new LinkedHashSet<>();
+            for (var fault : BenchmarkInputs.faultload(uids, random, 3)) {
+                uidSubset.add(fault.uid());
+            }
+            store.pruneFaultUidSubset(uidSubset);
+        }
+
+        faultloads = new ArrayList<>();
+        for (int i = 0; i < FAULTLOADS; i++) {
+            faultloads.add(BenchmarkInputs.faultload(uids, random, faultloadSize));
+        }
+    }
+
+    @Benchmark
+    public PruneDecision isRedundant() {
+        Set<Fault> faultload = faultloads.get(next);
+        next = (next + 1) % faultloads.size();
+        return store.isRedundant(faultload);
+    }
+}
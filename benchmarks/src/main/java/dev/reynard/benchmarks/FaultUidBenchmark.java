@@ -0,0 +1,61 @@
+package dev.reynard.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.faultload.FaultUid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FaultUidBenchmark {
+    @Param({ "1", "4", "8" })
+    public int stackDepth;
+
+    @Param({ "0", "4", "16" })
+    public int predecessors;
+
+    private FaultUid uid;
+    private FaultUid equal;
+    private FaultUid different;
+    private FaultUid wildcard;
+
+    @Setup
+    public void setup() {
+        var uids = BenchmarkInputs.uids(2, stackDepth, predecessors);
+        uid = uids.get(0);
+        // Equal, but not identical, so the points are compared field by field
+        equal = BenchmarkInputs.copy(uid);
+        different = uids.get(1);
+        wildcard = uid.asAnyPredecessors().asAnyCount();
+    }
+
+    @Benchmark
+    public boolean matchesEqual() {
+        return uid.matches(equal);
+    }
+
+    @Benchmark
+    public boolean matchesDifferent() {
+        return uid.matches(different);
+    }
+
+    @Benchmark
+    public boolean matchesWildcard() {
+        return wildcard.matches(equal);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.strategy.store.ImplicationsModel;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+
+/**
+ * Derives the expected behaviour of faultloads over a random call tree, in
+ * which a fault in the first call of every service propagates to its caller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImplicationsModelBenchmark {
+    private static final int FAULTLOADS = 64;
+
+    @Param({ "16", "64", "256" })
+    public int pointCount;
+
+    @Param({ "2", "8" })
+    public int stackDepth;
+
+    @Param({ "0", "4" })
+    public int predecessors;
+
+    @Param({ "2" })
+    public int faultloadSize;
+
+    private ImplicationsStore store;
+    private List<Set<Fault>> faultloads;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkInputs.SEED);
+        Map<FaultUid, List<FaultUid>> tree = BenchmarkInputs.callTree(pointCount, stackDepth, predecessors,
+                random);
+        store = new ImplicationsStore();
+
+        for (var entry : tree.entrySet()) {
+            FaultUid caller = entry.getKey();
+            List<FaultUid> calls = entry.getValue();
+            if (calls.isEmpty()) {
+                continue;
+            }
+
+            store.addDownstreamRequests(caller, calls);
+            if (caller.isInitial()) {
+                continue;
+            }
+
+            Set<Behaviour> causes = new LinkedHashSet<>();
+            causes.add(new Behaviour(calls.get(0), BenchmarkInputs.MODES.get(0)));
+            for (var call : calls.subList(1, calls.size())) {
+                causes.add(Behaviour.of(call));
+            }
+
+            store.addUpstreamResponse(causes, new Behaviour(caller, BenchmarkInputs.MODES.get(0)));
+        }
+
+        List<FaultUid> uids = new ArrayList<>(tree.keySet()).subList(1, tree.size());
+        faultloads = new ArrayList<>();
+        for (int i = 0; i < FAULTLOADS; i++) {
+            faultloads.add(BenchmarkInputs.faultload(uids, random, faultloadSize));
+        }
+    }
+
+    @Benchmark
+    public Set<Behaviour> getBehaviours() {
+        Set<Fault> faultload = faultloads.get(next);
+        next = (next + 1) % faultloads.size();
+        return new ImplicationsModel(store).getBehaviours(faultload);
+    }
+}
@@ -0,0 +1,236 @@
+package dev.reynard.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import dev.reynard.junit.instrumentation.ReplayController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyCheckpoint;
+import dev.reynard.junit.strategy.StrategyFactory;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+
+/**
+ * Replays recorded experiment runs through the complete strategy, without the
+ * system under test. A dataset is a checkpoint of an earlier run, or a file
+ * written by a RecordingController. The strategy is set up as the FiTest
+ * extension does, so the numbers are comparable to the recorded run, as long
+ * as the strategy asks for the same faultloads. Faultloads that were never
+ * recorded are counted, as they mean the search diverged from the recording.
+ */
+public class ReplayBenchmark {
+    private static final String[] PHASES = { "generate", "replay", "analyze" };
+    private static final int GENERATE = 0;
+    private static final int REPLAY = 1;
+    private static final int ANALYZE = 2;
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final List<Path> datasets = new ArrayList<>();
+    private Path output = null;
+    private int warmup = 1;
+    private int repeat = 3;
+    private boolean optimizeForRetries = false;
+    private boolean optimizeForImpactless = false;
+    private boolean withPredecessors = false;
+    private boolean maskPayload = false;
+    private boolean hashBody = false;
+    private int maxFaultloadSize = 0;
+
+    private record Run(StrategyRunner runner, long tests, long unknown, long[] cpuNs, long wallNs) {
+    }
+
+    /** Same components and options as the FiTest extension. */
+    private StrategyRunner createStrategy() {
+        StrategyRunner strategy = new StrategyFactory()
+                .withOptimizeForRetries(optimizeForRetries)
+                .withOptimizeForImpactless(optimizeForImpactless)
+                .withMaxFaultloadSize(maxFaultloadSize)
+                .create();
+
+        if (maskPayload) {
+            strategy.withPayloadMasking();
+        }
+
+        if (hashBody) {
+            strategy.withBodyHashing();
+        }
+
+        if (withPredecessors) {
+            strategy.withPredecessors();
+        }
+
+        return strategy;
+    }
+
+    private Run run(ReplayController controller) {
+        StrategyRunner runner = createStrategy();
+        long[] cpuNs = new long[PHASES.length];
+        long tests = 0;
+        long unknown = 0;
+        long wallStart = System.nanoTime();
+
+        while (true) {
+            long start = threads.getCurrentThreadCpuTime();
+            TrackedFaultload faultload = runner.nextFaultload();
+            start = measure(GENERATE, start, cpuNs);
+
+            if (faultload == null) {
+                break;
+            }
+
+            FaultloadResult result;
+            try {
+                result = new FaultloadResult(faultload, controller.getTrace(faultload), true);
+            } catch (IOException e) {
+                // Not recorded, the strategy continues without it, like the FiTest extension
+                unknown++;
+                continue;
+            } finally {
+                start = measure(REPLAY, start, cpuNs);
+            }
+
+            tests++;
+            runner.statistics.registerRun();
+            runner.handleResult(result);
+            measure(ANALYZE, start, cpuNs);
+        }
+
+        return new Run(runner, tests, unknown, cpuNs, System.nanoTime() - wallStart);
+    }
+
+    private static long measure(int phase, long start, long[] cpuNs) {
+        long now = threads.getCurrentThreadCpuTime();
+        cpuNs[phase] += now - start;
+        return now;
+    }
+
+    private static double median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        if (sorted.size() % 2 == 1) {
+            return sorted.get(middle);
+        }
+
+        return (sorted.get(middle - 1) + sorted.get(middle)) / 2.0;
+    }
+
+    private static Map<String, Object> msReport(List<Long> valuesNs) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("median", median(valuesNs) / 1e6);
+        report.put("min", valuesNs.stream().mapToLong(x -> x).min().orElse(0) / 1e6);
+        report.put("max", valuesNs.stream().mapToLong(x -> x).max().orElse(0) / 1e6);
+        return report;
+    }
+
+    public Map<String, Object> benchmark(Path dataset) throws IOException {
+        var controller = new ReplayController(dataset);
+
+        for (int i = 0; i < warmup; i++) {
+            run(controller);
+        }
+
+        List<Run> runs = new ArrayList<>();
+        for (int i = 0; i < repeat; i++) {
+            runs.add(run(controller));
+        }
+
+        // The search is deterministic, so the counts of the last run are representative
+        Run last = runs.get(runs.size() - 1);
+        var statistics = last.runner().statistics;
+        long generated = statistics.getTotalGenerated();
+        long cases = Math.max(0, last.tests() - 1);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", dataset.toString());
+        report.put("recorded_traces", controller.size());
+        report.put("tests_run", last.tests());
+        report.put("unknown_faultloads", last.unknown());
+        report.put("total_generated", generated);
+        report.put("prune_invocations", statistics.getTotalPruned());
+        report.put("pruned", new LinkedHashMap<>(statistics.getPrunerCount()));
+        // Share of the generated faultloads that did not have to be executed
+        report.put("pruning_ratio", generated == 0 ? 0.0 : 1.0 - (double) cases / generated);
+
+        Map<String, Object> cpu = new LinkedHashMap<>();
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            final int index = phase;
+            cpu.put(PHASES[phase], msReport(runs.stream().map(x -> x.cpuNs()[index]).toList()));
+        }
+        cpu.put("total", msReport(runs.stream().map(x -> Arrays.stream(x.cpuNs()).sum()).toList()));
+        report.put("cpu_ms", cpu);
+        report.put("wall_ms", msReport(runs.stream().map(Run::wallNs).toList()));
+        report.put("repeats", repeat);
+        return report;
+    }
+
+    private void addDataset(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            datasets.add(path);
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(path)) {
+            files.filter(x -> x.getFileName().toString().equals(StrategyCheckpoint.FILE_NAME))
+                    .sorted()
+                    .forEach(datasets::add);
+        }
+    }
+
+    private void parse(String[] args) throws IOException {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--output" -> output = Path.of(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--repeat" -> repeat = Math.max(1, Integer.parseInt(args[++i]));
+                case "--max-faultload-size" -> maxFaultloadSize = Integer.parseInt(args[++i]);
+                case "--optimize-for-retries" -> optimizeForRetries = true;
+                case "--optimize-for-impactless" -> optimizeForImpactless = true;
+                case "--with-predecessors" -> withPredecessors = true;
+                case "--mask-payload" -> maskPayload = true;
+                case "--hash-body" -> hashBody = true;
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                    }
+
+                    addDataset(Path.of(args[i]));
+                }
+            }
+        }
+
+        if (datasets.isEmpty()) {
+            throw new IllegalArgumentException("No datasets given, pass checkpoint files or report directories");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        ReplayBenchmark benchmark = new ReplayBenchmark();
+        benchmark.parse(args);
+
+        List<Map<String, Object>> reports = new ArrayList<>();
+        for (Path dataset : benchmark.datasets) {
+            reports.add(benchmark.benchmark(dataset));
+        }
+
+        if (benchmark.output == null) {
+            System.out.println(mapper.writeValueAsString(reports));
+        } else {
+            mapper.writeValue(benchmark.output.toFile(), reports);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package dev.reynard.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyFactory;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+
+/**
+ * Runs the full search strategy against synthetic systems of growing size,
+ * through the {@link SimulatedController}, and reports the work done and the
+ * time and allocations spent per phase. Each size is explored until the
+ * search space is exhausted, or the test or time budget runs out; the
+ * remaining frontier shows how much of the search was left.
+ */
+public class SearchScalingBenchmark {
+    private static final String[] PHASES = { "generate", "simulate", "analyze" };
+    private static final int GENERATE = 0;
+    private static final int SIMULATE = 1;
+    private static final int ANALYZE = 2;
+
+    private static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    private final List<FailureMode> modes = List.of(
+            ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE),
+            ErrorFault.fromError(HttpError.INTERNAL_SERVER_ERROR));
+
+    private List<Integer> sizes = List.of(10, 50, 100, 250, 500, 1000, 2000);
+    private long maxTests = 1000;
+    private long maxTimeS = 60;
+    private final TopologyGenerator topology = new TopologyGenerator(modes);
+
+    public record Result(int points, long tests, long generated, long pruned, long frontier,
+            long[] timeNs, long[] allocatedBytes, long retainedBytes) {
+    }
+
+    public Result run(int size) throws Exception {
+        var model = topology.generate(size);
+        var controller = new SimulatedController(model);
+
+        // The same components as the FiTest extension
+        StrategyRunner runner = new StrategyFactory()
+                .withModes(modes)
+                .create()
+                .withMaxTestCases(maxTests)
+                .withMaxTimeS(maxTimeS);
+
+        long[] timeNs = new long[PHASES.length];
+        long[] allocatedBytes = new long[PHASES.length];
+        long thread = Thread.currentThread().getId();
+
+        while (true) {
+            long start = System.nanoTime();
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            TrackedFaultload faultload = runner.nextFaultload();
+            start = measure(GENERATE, start, allocated, timeNs, allocatedBytes);
+            allocated = threads.getThreadAllocatedBytes(thread);
+
+            if (faultload == null) {
+                break;
+            }
+
+            var trace = controller.getTrace(faultload);
+            start = measure(SIMULATE, start, allocated, timeNs, allocatedBytes);
+            allocated = threads.getThreadAllocatedBytes(thread);
+
+            runner.statistics.registerRun();
+            runner.handleResult(new FaultloadResult(faultload, trace, true));
+            measure(ANALYZE, start, allocated, timeNs, allocatedBytes);
+        }
+
+        long frontier = runner.getGenerator() instanceof DynamicExplorationGenerator generator
+                ? generator.getQueuSize()
+                : 0;
+
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long retained = runtime.totalMemory() - runtime.freeMemory();
+
+        return new Result(topology.getPoints(), runner.statistics.getTotalRun(),
+                runner.statistics.getTotalGenerated(), runner.statistics.getTotalPruned(), frontier,
+                timeNs, allocatedBytes, retained);
+    }
+
+    private static long measure(int phase, long start, long allocated, long[] timeNs, long[] allocatedBytes) {
+        long now = System.nanoTime();
+        timeNs[phase] += now - start;
+        allocatedBytes[phase] += threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated;
+        return now;
+    }
+
+    private static String header() {
+        StringBuilder out = new StringBuilder(String.format("%7s %7s %9s %9s %9s", "points", "tests",
+                "generated", "pruned", "frontier"));
+        for (var phase : PHASES) {
+            out.append(String.format(" %12s", phase + "_ms"));
+        }
+        for (var phase : PHASES) {
+            out.append(String.format(" %12s", phase + "_mb"));
+        }
+        return out.append(String.format(" %11s", "retained_mb")).toString();
+    }
+
+    private static String row(Result result) {
+        StringBuilder out = new StringBuilder(String.format("%7d %7d %9d %9d %9d", result.points(),
+                result.tests(), result.generated(), result.pruned(), result.frontier()));
+        for (long ns : result.timeNs()) {
+            out.append(String.format(" %12.1f", ns / 1e6));
+        }
+        for (long bytes : result.allocatedBytes()) {
+            out.append(String.format(" %12.1f", bytes / 1e6));
+        }
+        return out.append(String.format(" %11.1f", result.retainedBytes() / 1e6)).toString();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).map(Integer::parseInt).toList();
+                case "--max-tests" -> maxTests = Long.parseLong(value);
+                case "--max-time-s" -> maxTimeS = Long.parseLong(value);
+                case "--services" -> topology.withServices(Integer.parseInt(value));
+                case "--fan-out" -> topology.withFanOut(Integer.parseInt(value));
+                case "--depth" -> topology.withDepth(Integer.parseInt(value));
+                case "--retry" -> topology.withRetryDensity(Double.parseDouble(value));
+                case "--fallback" -> topology.withFallbackDensity(Double.parseDouble(value));
+                case "--propagation" -> topology.withPropagationDensity(Double.parseDouble(value));
+                case "--seed" -> topology.withSeed(Long.parseLong(value));
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        SearchScalingBenchmark benchmark = new SearchScalingBenchmark();
+        benchmark.parse(args);
+
+        System.out.println(header());
+        for (int size : benchmark.sizes) {
+            System.out.println(row(benchmark.run(size)));
+        }
+    }
+}
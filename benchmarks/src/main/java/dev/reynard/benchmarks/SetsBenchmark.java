@@ -0,0 +1,70 @@
+package dev.reynard.benchmarks;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.strategy.util.Sets;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetsBenchmark {
+    @Param({ "8", "32", "128" })
+    public int pointCount;
+
+    @Param({ "4" })
+    public int stackDepth;
+
+    @Param({ "0", "4" })
+    public int predecessors;
+
+    private Set<Fault> subset;
+    private Set<Fault> superset;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkInputs.SEED);
+        List<FaultUid> uids = BenchmarkInputs.uids(pointCount, stackDepth, predecessors);
+        superset = BenchmarkInputs.faultload(uids, random, pointCount);
+
+        // Half of the faults, as copies, so the set lookups cannot short-circuit on identity
+        subset = new LinkedHashSet<>();
+        for (var fault : superset) {
+            if (subset.size() >= pointCount / 2) {
+                break;
+            }
+
+            subset.add(new Fault(BenchmarkInputs.copy(fault.uid()), fault.mode()));
+        }
+    }
+
+    @Benchmark
+    public boolean isSubsetOf() {
+        return Sets.isSubsetOf(subset, superset);
+    }
+
+    @Benchmark
+    public boolean isSubsetOfMatching() {
+        return Fault.isSubsetOf(subset, superset);
+    }
+}
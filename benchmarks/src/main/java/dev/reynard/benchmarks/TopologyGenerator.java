@@ -0,0 +1,184 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.Predecessors;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+
+/**
+ * Generates synthetic microservice systems, as a model for the
+ * {@link SimulatedController}. Services call a fixed number of other services,
+ * breadth first, up to a maximum call depth. The model looks up calls by their
+ * point only, so every call site gets its own endpoint; otherwise the same
+ * endpoint could (transitively) call itself. Every call can be retried or
+ * have a fallback when it fails, and can propagate its failure to the
+ * caller. A retried call or a call with a fallback only propagates its
+ * failure if the retry or fallback fails as well.
+ */
+public class TopologyGenerator {
+    // Like the proxies by default, the points do not track their predecessors
+    private static final Predecessors NO_PREDECESSORS = null;
+
+    private final List<FailureMode> modes;
+    private int services = 50;
+    private int fanOut = 3;
+    private int depth = 8;
+    private double retryDensity = 0.2;
+    private double fallbackDensity = 0.1;
+    private double propagationDensity = 0.5;
+    private long seed = BenchmarkInputs.SEED;
+
+    private Random random;
+    private int points;
+
+    public TopologyGenerator(List<FailureMode> modes) {
+        this.modes = modes;
+    }
+
+    public TopologyGenerator withServices(int services) {
+        this.services = services;
+        return this;
+    }
+
+    public TopologyGenerator withFanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    public TopologyGenerator withDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    public TopologyGenerator withRetryDensity(double retryDensity) {
+        this.retryDensity = retryDensity;
+        return this;
+    }
+
+    public TopologyGenerator withFallbackDensity(double fallbackDensity) {
+        this.fallbackDensity = fallbackDensity;
+        return this;
+    }
+
+    public TopologyGenerator withPropagationDensity(double propagationDensity) {
+        this.propagationDensity = propagationDensity;
+        return this;
+    }
+
+    public TopologyGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /** Number of fault injection points in the last generated model. */
+    public int getPoints() {
+        return points;
+    }
+
+    private record Caller(FaultUid uid, int level) {
+    }
+
+    /**
+     * Generate a model with (about) the given number of points. Fewer points
+     * are generated if the depth and fan-out do not allow for more.
+     */
+    public ImplicationsStore generate(int targetPoints) {
+        random = new Random(seed);
+        ImplicationsStore model = new ImplicationsStore();
+
+        FaultUid root = new FaultUid(List.of(new FaultInjectionPoint(service(0), "/", "", NO_PREDECESSORS, 0)));
+        points = 1;
+
+        Deque<Caller> callers = new ArrayDeque<>();
+        callers.add(new Caller(root, 1));
+
+        while (!callers.isEmpty() && points < targetPoints) {
+            Caller caller = callers.poll();
+            Map<FaultInjectionPoint, Integer> occurrences = new HashMap<>();
+            List<FaultUid> calls = new ArrayList<>();
+            List<FaultUid> alternatives = new ArrayList<>();
+
+            for (int i = 0; i < fanOut && points < targetPoints; i++) {
+                FaultInjectionPoint point = call(caller.uid(), "/op-" + points, occurrences);
+                FaultUid call = caller.uid().asChild(point);
+                calls.add(call);
+                points++;
+
+                if (caller.level() + 1 < depth) {
+                    callers.add(new Caller(call, caller.level() + 1));
+                }
+
+                FaultUid alternative = null;
+                if (random.nextDouble() < retryDensity) {
+                    alternative = caller.uid().asChild(next(point, occurrences));
+                } else if (random.nextDouble() < fallbackDensity) {
+                    alternative = caller.uid().asChild(call(caller.uid(), "/fallback-" + points, occurrences));
+                }
+
+                if (alternative != null) {
+                    points++;
+                }
+
+                alternatives.add(alternative);
+            }
+
+            model.addDownstreamRequests(caller.uid(), calls);
+
+            for (int i = 0; i < calls.size(); i++) {
+                FaultUid call = calls.get(i);
+                FaultUid alternative = alternatives.get(i);
+                boolean propagates = random.nextDouble() < propagationDensity;
+
+                for (var mode : modes) {
+                    Behaviour failure = new Behaviour(call, mode);
+                    Set<Behaviour> causes = new LinkedHashSet<>(List.of(failure));
+
+                    if (alternative != null) {
+                        model.addInclusionEffect(Set.of(failure), alternative);
+                        causes.add(new Behaviour(alternative, mode));
+                    }
+
+                    if (propagates) {
+                        model.addUpstreamResponse(causes, new Behaviour(caller.uid(), mode));
+                    }
+                }
+            }
+        }
+
+        return model;
+    }
+
+    private String service(int index) {
+        return "service-" + index;
+    }
+
+    // A call from the caller to another service, counted per caller
+    private FaultInjectionPoint call(FaultUid caller, String signature,
+            Map<FaultInjectionPoint, Integer> occurrences) {
+        String destination = caller.destination();
+        while (services > 1 && destination.equals(caller.destination())) {
+            destination = service(random.nextInt(services));
+        }
+
+        return next(new FaultInjectionPoint(destination, signature, "", NO_PREDECESSORS, 0), occurrences);
+    }
+
+    private FaultInjectionPoint next(FaultInjectionPoint point, Map<FaultInjectionPoint, Integer> occurrences) {
+        FaultInjectionPoint key = point.withCount(0);
+        int count = occurrences.merge(key, 1, Integer::sum) - 1;
+        return point.withCount(count);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.strategy.util.Pair;
+import dev.reynard.junit.strategy.util.TransativeRelation;
+
+/** Builds a relation over the points of a call tree, as the implications model does. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransativeRelationBenchmark {
+    @Param({ "16", "64", "256" })
+    public int pointCount;
+
+    @Param({ "2", "8" })
+    public int stackDepth;
+
+    @Param({ "0", "4" })
+    public int predecessors;
+
+    private List<Pair<FaultInjectionPoint, FaultInjectionPoint>> relations;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkInputs.SEED);
+        Map<FaultUid, List<FaultUid>> tree = BenchmarkInputs.callTree(pointCount, stackDepth, predecessors,
+                random);
+
+        relations = new ArrayList<>();
+        for (var entry : tree.entrySet()) {
+            for (var child : entry.getValue()) {
+                relations.add(Pair.of(entry.getKey().getPoint(), child.getPoint()));
+            }
+        }
+    }
+
+    @Benchmark
+    public TransativeRelation<FaultInjectionPoint> addRelation() {
+        TransativeRelation<FaultInjectionPoint> relation = new TransativeRelation<>();
+        for (var pair : relations) {
+            relation.addRelation(pair.first(), pair.second());
+        }
+
+        return relation;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.reynard.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.reynard.junit.strategy.components.generators.TreeNode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeNodeBenchmark {
+    @Param({ "1", "4", "16" })
+    public int pointCount;
+
+    @Param({ "1", "4", "8" })
+    public int stackDepth;
+
+    @Param({ "0", "4", "16" })
+    public int predecessors;
+
+    private TreeNode node;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkInputs.SEED);
+        var uids = BenchmarkInputs.uids(pointCount, stackDepth, predecessors);
+        node = new TreeNode(new ArrayList<>(BenchmarkInputs.faultload(uids, random, pointCount)));
+    }
+
+    @Benchmark
+    public int hash() {
+        return node.hashCode();
+    }
+}
@@ -43,6 +43,19 @@ public @interface FiTest {
      */
     boolean checkAllPruners() default false;
 
+    /**
+     * Run analyzers that do not depend on each other concurrently. Analyzers
+     * that write to the store still run one at a time.
+     */
+    boolean parallelAnalysis() default false;
+
+    /**
+     * Analyze the result of a test in the background, while the next test
+     * runs. The next faultload is only checked against that analysis after it
+     * ran, and its result is dropped if it turned out to be redundant.
+     */
+    boolean pipelinedAnalysis() default false;
+
     /** The maximum number of test executions. 0 indicates no bound. */
     long maxTestCases() default 0;
 
@@ -68,4 +81,38 @@ public @interface FiTest {
 
     /** The order in which the search tree is visited */
     boolean depthFirstSearchOrder() default false;
+
+    /**
+     * Write a checkpoint to the report directory, so an interrupted run can be
+     * resumed with {@link #resumeFrom()}. The checkpoint holds the full trace of
+     * every test and is synced to disk after each test, which adds I/O on top of
+     * the result log. Always enabled when resuming.
+     */
+    boolean checkpoint() default false;
+
+    /**
+     * Resume from the checkpoint of an earlier run (a checkpoint file, or the
+     * report directory containing it). Empty indicates a fresh start.
+     */
+    String resumeFrom() default "";
+
+    /**
+     * Warm-start from the learned model of an earlier run (a model file, or the
+     * report directory containing it). Only knowledge about parts of the system
+     * with an unchanged happy path is reused. Empty indicates a cold start.
+     */
+    String warmStartFrom() default "";
+
+    /**
+     * Share the learned model with the other tests in the same class that set
+     * this. A later test reuses the facts about subtrees of the system it
+     * shares with an earlier test, matched by their localised uid.
+     */
+    boolean shareKnowledge() default false;
+
+    /**
+     * Serve live metrics of the exploration in the Prometheus text format on
+     * this port. 0 disables the endpoint.
+     */
+    int metricsPort() default 0;
 }
@@ -2,6 +2,7 @@ package dev.reynard.junit;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Stream;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
@@ -17,40 +19,23 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import dev.reynard.junit.faultload.modes.ErrorFault;
-import dev.reynard.junit.faultload.modes.FailureMode;
-import dev.reynard.junit.faultload.modes.HttpError;
 import dev.reynard.junit.instrumentation.FaultController;
 import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyCheckpoint;
+import dev.reynard.junit.strategy.StrategyFactory;
+import dev.reynard.junit.strategy.StrategyResultLog;
 import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.SuiteKnowledge;
 import dev.reynard.junit.strategy.TrackedFaultload;
-import dev.reynard.junit.strategy.components.analyzers.BehaviorAnalyzer;
-import dev.reynard.junit.strategy.components.analyzers.ConcurrencyDetector;
-import dev.reynard.junit.strategy.components.analyzers.ConditionalPointDetector;
-import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
-import dev.reynard.junit.strategy.components.analyzers.FaultsWithoutCauseOracle;
-import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
-import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
-import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
-import dev.reynard.junit.strategy.components.analyzers.RedundancyAnalyzer;
-import dev.reynard.junit.strategy.components.analyzers.StatusAnalyzer;
-import dev.reynard.junit.strategy.components.analyzers.StatusPropagationOracle;
-import dev.reynard.junit.strategy.components.analyzers.TimingAnalyzer;
-import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
-import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
-import dev.reynard.junit.strategy.components.pruners.FaultloadSizePruner;
-import dev.reynard.junit.strategy.components.pruners.NoImpactPruner;
-import dev.reynard.junit.strategy.components.pruners.UnreachabilityPruner;
+import dev.reynard.junit.strategy.store.StoreSnapshot;
 import dev.reynard.junit.strategy.util.Env;
 import dev.reynard.junit.strategy.util.TraceAnalysis;
-import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
 import dev.reynard.junit.util.TaggedTimer;
 
 public class FiTestExtension
         implements TestTemplateInvocationContextProvider {
-    private StrategyRunner strategy;
     private static final String OUTPUT_DIR_KEY = "reynard.output.dir";
-    private final TaggedTimer totalTimer = new TaggedTimer();
+    private static final Namespace NAMESPACE = Namespace.create(FiTestExtension.class);
     private static final Logger logger = LoggerFactory.getLogger(FiTestExtension.class);
 
     @Override
@@ -74,8 +59,48 @@ public class FiTestExtension
         return null;
     }
 
+    private String getConfig(Env.Keys key, String annotationValue) {
+        String envValue = Env.getEnv(key);
+        if (!envValue.equals("")) {
+            return envValue;
+        }
+
+        if (!annotationValue.equals("")) {
+            return annotationValue;
+        }
+
+        return null;
+    }
+
+    // Scoped to the test class, so it is dropped when the class is done
+    private SuiteKnowledge getSuiteKnowledge(ExtensionContext context) {
+        ExtensionContext suite = context.getParent().orElse(context);
+        return suite.getStore(NAMESPACE).getOrComputeIfAbsent(SuiteKnowledge.class);
+    }
+
+    private Path resolvePath(String path) {
+        if (path.startsWith("/")) {
+            return Path.of(path);
+        }
+
+        Path projectRoot = Path.of("").toAbsolutePath().getParent();
+        return projectRoot.resolve(path);
+    }
+
+    private Path resolvePath(String path, String defaultFileName) {
+        Path resolved = resolvePath(path);
+
+        if (Files.isDirectory(resolved)) {
+            return resolved.resolve(defaultFileName);
+        }
+
+        return resolved;
+    }
+
     @Override
     public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        // Keep all state local, as the extension can be shared by parallel test methods
+        TaggedTimer totalTimer = new TaggedTimer();
         totalTimer.start("Total test time");
         // Retrieve the annotation and its parameters
         var annotation = context.getTestMethod()
@@ -86,44 +111,13 @@ public class FiTestExtension
             annotation = context.getRequiredTestClass().getAnnotation(FiTest.class);
         }
 
-        List<FailureMode> modes = List.of(
-                ErrorFault.fromError(HttpError.INTERNAL_SERVER_ERROR),
-                ErrorFault.fromError(HttpError.BAD_GATEWAY),
-                ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE),
-                ErrorFault.fromError(HttpError.GATEWAY_TIMEOUT));
-
-        // List<FailureMode> modes =
-        // List.of(ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE));
-
-        boolean onlyPersistantOrTransientRetries = annotation.optimizeForRetries();
-        boolean pruneImpactless = annotation.optimizeForImpactless();
-        int maxFaultloadSize = annotation.maxFaultloadSize();
-        TraversalOrder traversalStrategy = annotation.pointOrder();
-        boolean depthFirstSearchOrder = annotation.depthFirstSearchOrder();
-
-        strategy = new StrategyRunner(modes);
-        strategy
-                .withComponent(new DynamicExplorationGenerator(strategy.getStore(), strategy::prune, traversalStrategy,
-                        !depthFirstSearchOrder))
-                // These components detect the necessairy info
-                // for the implications store
-                .withComponent(new HappyPathDetector())
-                .withComponent(new ParentChildDetector())
-                .withComponent(new HappensBeforeNeighbourDetector())
-                .withComponent(new ErrorPropagationDetector())
-                // Note: ConditionalPointDetector needs to be the last detector in the chain, as
-                // it relies on the implications
-                .withComponent(new ConditionalPointDetector(onlyPersistantOrTransientRetries))
-                .withComponent(new RedundancyAnalyzer())
-                .withComponent(new StatusAnalyzer())
-                .withComponent(new BehaviorAnalyzer())
-                .withComponent(new TimingAnalyzer())
-                .withComponent(new StatusPropagationOracle())
-                .withComponent(new FaultsWithoutCauseOracle())
-                .withComponent(new ConcurrencyDetector())
-                .withComponent(new UnreachabilityPruner())
-                .withComponent(new NoImpactPruner(pruneImpactless))
-                .withComponent(new DynamicReductionPruner());
+        StrategyRunner strategy = new StrategyFactory()
+                .withPointOrder(annotation.pointOrder())
+                .withDepthFirstSearchOrder(annotation.depthFirstSearchOrder())
+                .withOptimizeForRetries(annotation.optimizeForRetries())
+                .withOptimizeForImpactless(annotation.optimizeForImpactless())
+                .withMaxFaultloadSize(annotation.maxFaultloadSize())
+                .create();
 
         if (annotation.maxTestCases() > 0) {
             strategy.withMaxTestCases(annotation.maxTestCases());
@@ -133,10 +127,6 @@ public class FiTestExtension
             strategy.withMaxTimeS(annotation.maxTimeS());
         }
 
-        if (maxFaultloadSize > 0) {
-            strategy.withComponent(new FaultloadSizePruner(maxFaultloadSize));
-        }
-
         if (annotation.failStop()) {
             strategy.withStopOnError();
         }
@@ -157,6 +147,14 @@ public class FiTestExtension
             strategy.withCheckAllPruners();
         }
 
+        if (annotation.parallelAnalysis()) {
+            strategy.withParallelAnalysis();
+        }
+
+        if (annotation.pipelinedAnalysis()) {
+            strategy.withPipelinedAnalysis();
+        }
+
         if (annotation.withPredecessors()) {
             strategy.withPredecessors();
         }
@@ -165,24 +163,50 @@ public class FiTestExtension
             strategy.withGetDelay(annotation.initialGetTraceDelay());
         }
 
+        String testClassName = context.getRequiredTestClass().getSimpleName();
+        String testMethodName = context.getTestMethod().orElseThrow().getName();
+        strategy.setContextName(testClassName + "#" + testMethodName);
+
+        String resumeConfig = getConfig(Env.Keys.RESUME_FROM, annotation.resumeFrom());
+
         String outputConfig = getOutputDir(context);
         if (outputConfig != null) {
-            Path outputDir;
-
-            if (outputConfig.startsWith("/")) {
-                outputDir = Path.of(outputConfig);
-            } else {
-                Path projectRoot = Path.of("").toAbsolutePath().getParent();
-                outputDir = projectRoot.resolve(outputConfig);
-            }
+            Path outputDir = resolvePath(outputConfig);
 
             logger.info("Exporting reports to: " + outputDir);
             strategy.setOutputDir(outputDir);
+
+            // A resumed run keeps its checkpoint, so it can be resumed again
+            if (annotation.checkpoint() || Env.getEnvBool(Env.Keys.CHECKPOINT) || resumeConfig != null) {
+                strategy.withCheckpoint(strategy.getReportDir().resolve(StrategyCheckpoint.FILE_NAME));
+            }
+
+            strategy.withResultLog(StrategyResultLog.resolve(strategy.getReportDir(),
+                    Env.getEnvBool(Env.Keys.COMPRESS_RESULTS)));
         }
 
-        String testClassName = context.getRequiredTestClass().getSimpleName();
-        String testMethodName = context.getTestMethod().orElseThrow().getName();
-        strategy.setContextName(testClassName + "#" + testMethodName);
+        if (resumeConfig != null) {
+            Path resumeFile = resolvePath(resumeConfig, StrategyCheckpoint.FILE_NAME);
+            logger.info("Resuming from checkpoint: " + resumeFile);
+            strategy.withResumeFrom(resumeFile);
+        }
+
+        String warmStartConfig = getConfig(Env.Keys.WARM_START_FROM, annotation.warmStartFrom());
+        if (warmStartConfig != null) {
+            Path modelFile = resolvePath(warmStartConfig, StoreSnapshot.FILE_NAME);
+            logger.info("Warm-starting from model: " + modelFile);
+            strategy.withWarmStart(modelFile);
+        }
+
+        if (annotation.shareKnowledge() || Env.getEnvBool(Env.Keys.SHARE_KNOWLEDGE)) {
+            strategy.withSuiteKnowledge(getSuiteKnowledge(context));
+        }
+
+        String metricsConfig = getConfig(Env.Keys.METRICS_PORT,
+                annotation.metricsPort() > 0 ? String.valueOf(annotation.metricsPort()) : "");
+        if (metricsConfig != null) {
+            strategy.withMetricsEndpoint(Integer.parseInt(metricsConfig));
+        }
 
         if (annotation.additionalComponents().length > 0) {
             for (Class<?> componentClass : annotation.additionalComponents()) {
@@ -215,7 +239,7 @@ public class FiTestExtension
                 .generate(() -> createInvocationContext(strategy, controller))
                 .takeWhile(ctx -> ctx != null)
                 .onClose(() -> {
-                    afterAll();
+                    afterAll(strategy, totalTimer);
                 });
     }
 
@@ -241,17 +265,29 @@ public class FiTestExtension
             public List<Extension> getAdditionalExtensions() {
                 return List.of(
                         new QueueParameterResolver(faultload),
-                        new BeforeTestExtension(faultload, controller),
+                        new BeforeTestExtension(faultload, strategy, controller),
                         new AfterTestExtension(faultload, strategy, controller));
             }
         };
     }
 
-    public void afterAll() {
+    public void afterAll(StrategyRunner strategy, TaggedTimer totalTimer) {
+        strategy.awaitAnalysis();
         totalTimer.stop("Total test time");
         strategy.registerTime(totalTimer);
         strategy.statistics.setSize(strategy.getGenerator().spaceSize());
         strategy.statistics.report();
+        strategy.closeResultLog();
+        strategy.stopMetricsEndpoint();
+        strategy.publishKnowledge();
+
+        if (strategy.hasOutputDir()) {
+            try {
+                strategy.exportModel(strategy.getReportDir().resolve(StoreSnapshot.FILE_NAME));
+            } catch (IOException e) {
+                logger.error("Failed to export the learned model", e);
+            }
+        }
     }
 
     // Parameter resolver to inject the current parameter into the test
@@ -276,10 +312,12 @@ public class FiTestExtension
     // Before each test, register the faultload with the proxies
     private static class BeforeTestExtension implements BeforeTestExecutionCallback {
         private final TrackedFaultload faultload;
+        private final StrategyRunner strategy;
         private final FaultController controller;
 
-        BeforeTestExtension(TrackedFaultload faultload, FaultController controller) {
+        BeforeTestExtension(TrackedFaultload faultload, StrategyRunner strategy, FaultController controller) {
             this.faultload = faultload;
+            this.strategy = strategy;
             this.controller = controller;
         }
 
@@ -334,7 +372,7 @@ public class FiTestExtension
                 logger.info("Client responded with HTTP status: {}", status);
                 faultload.timer.start("handleResult");
                 FaultloadResult result = new FaultloadResult(faultload, trace, !testFailed);
-                strategy.handleResult(result);
+                strategy.submitResult(result);
                 faultload.timer.stop("handleResult");
             } catch (IOException e) {
                 e.printStackTrace();
@@ -9,7 +9,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import dev.reynard.junit.faultload.modes.FailureMode;
-import dev.reynard.junit.strategy.util.Sets;
 
 @JsonSerialize
 public record Behaviour(FaultUid uid, FailureMode mode) {
@@ -32,6 +31,19 @@ public record Behaviour(FaultUid uid, FailureMode mode) {
         return new Fault(uid, mode);
     }
 
+    /** Whether the behaviour only matches behaviours with the same key. */
+    @JsonIgnore
+    public boolean isConcrete() {
+        return uid.isConcrete();
+    }
+
+    /** The behaviour without predecessors, to index concrete behaviours by. */
+    @JsonIgnore
+    public Behaviour key() {
+        FaultUid key = uid.key();
+        return key == uid ? this : new Behaviour(key, mode);
+    }
+
     public boolean matches(Behaviour other) {
         boolean modeMatches = mode == null ? other.mode == null : mode.equals(other.mode);
 
@@ -75,7 +87,15 @@ public record Behaviour(FaultUid uid, FailureMode mode) {
 
     // if a <= b
     public static boolean isSubsetOf(Collection<Behaviour> subset, Collection<Behaviour> superset) {
-        return Sets.isSubsetOf(subset, superset, Behaviour::matches);
+        if (subset == null || superset == null) {
+            return false;
+        }
+
+        if (subset.size() > superset.size()) {
+            return false;
+        }
+
+        return BehaviourSet.of(superset).containsMatches(subset);
     }
 
     public static Set<FaultUid> getFaultUids(Collection<Behaviour> behaviours) {
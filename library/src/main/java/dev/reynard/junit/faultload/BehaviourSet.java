@@ -0,0 +1,114 @@
+package dev.reynard.junit.faultload;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable set of behaviours, split into concrete behaviours and
+ * behaviours with wildcards. Concrete behaviours are indexed by their key,
+ * which leaves out the predecessors, so matching one is a hash lookup and a
+ * predecessor check within its bucket. Only the (usually few) wildcards are
+ * scanned.
+ */
+public final class BehaviourSet extends AbstractSet<Behaviour> {
+    private static final BehaviourSet EMPTY = new BehaviourSet(Set.of());
+
+    private final Set<Behaviour> behaviours;
+    private final Map<Behaviour, List<Behaviour>> concrete = new HashMap<>();
+    private final List<Behaviour> wildcards = new ArrayList<>();
+
+    private BehaviourSet(Set<Behaviour> behaviours) {
+        this.behaviours = behaviours;
+
+        for (Behaviour behaviour : behaviours) {
+            if (behaviour.isConcrete()) {
+                concrete.computeIfAbsent(behaviour.key(), x -> new ArrayList<>(1)).add(behaviour);
+            } else {
+                wildcards.add(behaviour);
+            }
+        }
+    }
+
+    public static BehaviourSet of(Collection<Behaviour> behaviours) {
+        if (behaviours instanceof BehaviourSet set) {
+            return set;
+        }
+
+        if (behaviours.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new BehaviourSet(Collections.unmodifiableSet(new LinkedHashSet<>(behaviours)));
+    }
+
+    /** Whether any behaviour in the set matches the given behaviour. */
+    public boolean containsMatch(Behaviour behaviour) {
+        if (behaviour.isConcrete()) {
+            List<Behaviour> bucket = concrete.get(behaviour.key());
+            if (bucket != null) {
+                // Same key, so only the predecessors can differ
+                for (Behaviour other : bucket) {
+                    if (behaviour.matches(other)) {
+                        return true;
+                    }
+                }
+            }
+
+            // A concrete behaviour can still match a wildcard
+            for (Behaviour wildcard : wildcards) {
+                if (behaviour.matches(wildcard)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        for (Behaviour other : behaviours) {
+            if (behaviour.matches(other)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Whether every given behaviour matches a behaviour in the set. */
+    public boolean containsMatches(Collection<Behaviour> subset) {
+        for (Behaviour behaviour : subset) {
+            if (!containsMatch(behaviour)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** The behaviours that are scanned on every match, as they have wildcards. */
+    public List<Behaviour> getWildcards() {
+        return Collections.unmodifiableList(wildcards);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return behaviours.contains(o);
+    }
+
+    @Override
+    public Iterator<Behaviour> iterator() {
+        return behaviours.iterator();
+    }
+
+    @Override
+    public int size() {
+        return behaviours.size();
+    }
+}
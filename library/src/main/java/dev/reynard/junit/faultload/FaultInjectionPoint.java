@@ -1,34 +1,100 @@
 package dev.reynard.junit.faultload;
 
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
-import dev.reynard.junit.strategy.util.Sets;
+import dev.reynard.junit.strategy.util.SymbolTable;
+
+/**
+ * A point in the system where a fault can be injected. The destination,
+ * signature and payload are interned in a global symbol table, so points
+ * parsed from different reports share their strings, and matching compares
+ * ids. A null field is a wildcard, stored as a reserved id.
+ */
+public final class FaultInjectionPoint {
+    private static final SymbolTable symbols = new SymbolTable();
+    private static final int ANY = -1;
+
+    private final int destination;
+    private final int signature;
+    private final int payload;
+    private final Predecessors predecessors;
+    private final int count;
+    private final int hash;
+    // Cached for reporting, computing it twice is harmless
+    private String string = null;
+    // Cached for indexing, computing it twice is harmless
+    private FaultInjectionPoint key = null;
+
+    @JsonCreator
+    public FaultInjectionPoint(
+            @JsonProperty("destination") String destination,
+            @JsonProperty("signature") String signature,
+            @JsonProperty("payload") String payload,
+            @JsonProperty("predecessors") Predecessors predecessors,
+            @JsonProperty("count") int count) {
+        this(intern(destination), intern(signature), intern(payload), predecessors, count);
+    }
 
-@JsonSerialize
-@JsonDeserialize
-public record FaultInjectionPoint(String destination, String signature, String payload,
-        @JsonProperty("predecessors") Map<String, Integer> predecessors, int count) {
+    public FaultInjectionPoint(String destination, String signature, String payload,
+            Map<String, Integer> predecessors, int count) {
+        this(destination, signature, payload, Predecessors.of(predecessors), count);
+    }
 
-    public FaultInjectionPoint {
-        // Ensure map is immutable
-        if (predecessors != null) {
-            predecessors = Map.copyOf(predecessors);
-        }
+    private FaultInjectionPoint(int destination, int signature, int payload, Predecessors predecessors,
+            int count) {
+        this.destination = destination;
+        this.signature = signature;
+        this.payload = payload;
+        this.predecessors = predecessors;
+        this.count = count;
+        this.hash = Objects.hash(destination, signature, payload, predecessors, count);
+    }
+
+    private static int intern(String value) {
+        return value == null ? ANY : symbols.intern(value);
+    }
+
+    private static String resolve(int id) {
+        return id == ANY ? null : symbols.get(id);
+    }
+
+    @JsonProperty("destination")
+    public String destination() {
+        return resolve(destination);
+    }
+
+    @JsonProperty("signature")
+    public String signature() {
+        return resolve(signature);
+    }
+
+    @JsonProperty("payload")
+    public String payload() {
+        return resolve(payload);
+    }
+
+    @JsonProperty("predecessors")
+    public Predecessors predecessors() {
+        return predecessors;
+    }
+
+    @JsonProperty("count")
+    public int count() {
+        return count;
     }
 
     public static FaultInjectionPoint Any() {
-        return new FaultInjectionPoint(null, null, null, null, -1);
+        return new FaultInjectionPoint(null, null, null, (Predecessors) null, -1);
     }
 
     @JsonIgnore
     public boolean isAnyDestination() {
-        return destination == null;
+        return destination == ANY;
     }
 
     @JsonIgnore
@@ -38,28 +104,58 @@ public record FaultInjectionPoint(String destination, String signature, String p
 
     @JsonIgnore
     public boolean isAnySignature() {
-        return signature == null;
+        return signature == ANY;
     }
 
     @JsonIgnore
     public boolean isAnyPayload() {
-        return payload == null;
+        return payload == ANY;
+    }
+
+    /**
+     * Whether the point has no wildcards, apart from its predecessors. The
+     * proxies only report predecessors on request, so those are left out: a
+     * concrete point only matches points with the same key, whose predecessors
+     * match.
+     */
+    @JsonIgnore
+    public boolean isConcrete() {
+        return destination != ANY && signature != ANY && payload != ANY && count >= 0;
+    }
+
+    /** The point without predecessors, to index concrete points by. */
+    @JsonIgnore
+    public FaultInjectionPoint key() {
+        if (predecessors == null) {
+            return this;
+        }
+
+        FaultInjectionPoint cached = key;
+        if (cached == null) {
+            cached = asAnyPredecessors();
+            key = cached;
+        }
+        return cached;
     }
 
     // Builder patterns
     public FaultInjectionPoint withDestination(String destination) {
-        return new FaultInjectionPoint(destination, signature, payload, predecessors, count);
+        return new FaultInjectionPoint(intern(destination), signature, payload, predecessors, count);
     }
 
     public FaultInjectionPoint withSignature(String signature) {
-        return new FaultInjectionPoint(destination, signature, payload, predecessors, count);
+        return new FaultInjectionPoint(destination, intern(signature), payload, predecessors, count);
     }
 
     public FaultInjectionPoint withPayload(String payload) {
-        return new FaultInjectionPoint(destination, signature, payload, predecessors, count);
+        return new FaultInjectionPoint(destination, signature, intern(payload), predecessors, count);
     }
 
     public FaultInjectionPoint withPredecessors(Map<String, Integer> predecessors) {
+        return withPredecessors(Predecessors.of(predecessors));
+    }
+
+    public FaultInjectionPoint withPredecessors(Predecessors predecessors) {
         return new FaultInjectionPoint(destination, signature, payload, predecessors, count);
     }
 
@@ -67,30 +163,52 @@ public record FaultInjectionPoint(String destination, String signature, String p
         return new FaultInjectionPoint(destination, signature, payload, predecessors, count);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (o instanceof FaultInjectionPoint other) {
+            return hash == other.hash
+                    && destination == other.destination
+                    && signature == other.signature
+                    && payload == other.payload
+                    && count == other.count
+                    && Objects.equals(predecessors, other.predecessors);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
+        if (string != null) {
+            return string;
+        }
+
+        String payload = payload();
         String payloadStr = (payload == null || payload.isEmpty()) ? ""
                 : "(" + payload.substring(0, Math.min(8, payload.length())) + ")";
-        String signatureStr = signature == null ? "" : signature;
-        String destinationStr = destination == null ? "" : destination;
+        String signatureStr = isAnySignature() ? "" : signature();
+        String destinationStr = isAnyDestination() ? "" : destination();
         String countStr = count < 0 ? "#∞" : ("#" + count);
 
-        // {key1:value1,key2:value2, ...}
-        String csStr = "";
-        if (predecessors != null) {
-            csStr = "{" + predecessors.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .map(e -> e.getKey() + ":" + e.getValue())
-                    .reduce((a, b) -> a + "," + b).orElse("") + "}";
-        }
+        String csStr = predecessors == null ? "" : predecessors.toString();
 
-        return destinationStr + ":" + signatureStr + payloadStr + csStr + countStr;
+        string = destinationStr + ":" + signatureStr + payloadStr + csStr + countStr;
+        return string;
     }
 
     @JsonIgnore
     public String toSimplifiedString() {
         String countStr = count < 0 ? "#∞" : ("#" + count);
-        return destination + countStr;
+        return destination() + countStr;
     }
 
     @JsonIgnore
@@ -110,7 +228,7 @@ public record FaultInjectionPoint(String destination, String signature, String p
 
     @JsonIgnore
     public FaultInjectionPoint asAnyPredecessors() {
-        return withPredecessors(null);
+        return withPredecessors((Predecessors) null);
     }
 
     @JsonIgnore
@@ -120,7 +238,7 @@ public record FaultInjectionPoint(String destination, String signature, String p
 
     @JsonIgnore
     public PartialFaultInjectionPoint asPartial() {
-        return new PartialFaultInjectionPoint(destination, signature, payload);
+        return new PartialFaultInjectionPoint(destination(), signature(), payload());
     }
 
     @JsonIgnore
@@ -134,57 +252,21 @@ public record FaultInjectionPoint(String destination, String signature, String p
     }
 
     // cs1 < cs2
-    public static boolean isBefore(Map<String, Integer> cs1, Map<String, Integer> cs2) {
-        Set<String> keys = Sets.union(cs1.keySet(), cs2.keySet());
-        boolean hasOneBefore = false;
-
-        for (String key : keys) {
-            if (!cs1.containsKey(key)) {
-                // cs1 has an event that cs2 has not seen
-                hasOneBefore = true;
-                break;
-            }
-
-            if (!cs2.containsKey(key)) {
-                // cs2 has an event that cs1 has not seen
-                return false;
-            }
-
-            int v1 = cs1.get(key);
-            int v2 = cs2.get(key);
-
-            if (v2 > v1) {
-                hasOneBefore = true;
-            }
-
-            if (v1 > v2) {
-                // cs1 has an event that is after cs2
-                return false;
-            }
-        }
-
-        // All events are <=, and one is before
-        return hasOneBefore;
+    public static boolean isBefore(Predecessors cs1, Predecessors cs2) {
+        return cs1.isBefore(cs2);
     }
 
-    private boolean matches(String a, String b) {
-        return a == null || b == null || a.equals(b);
+    public static boolean isBefore(Map<String, Integer> cs1, Map<String, Integer> cs2) {
+        return isBefore(Predecessors.of(cs1), Predecessors.of(cs2));
     }
 
+    // Also matches ids, as the wildcard id is negative
     private boolean matches(int a, int b) {
         return a < 0 || b < 0 || a == b;
     }
 
-    private boolean matches(Map<String, Integer> a, Map<String, Integer> b) {
-        if (a == null || b == null) {
-            return true;
-        }
-
-        if (a.size() != b.size()) {
-            return false;
-        }
-
-        return a.equals(b);
+    private boolean matches(Predecessors a, Predecessors b) {
+        return a == null || b == null || a.equals(b);
     }
 
     public boolean matches(FaultInjectionPoint other) {
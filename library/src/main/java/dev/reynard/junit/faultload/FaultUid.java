@@ -2,19 +2,51 @@ package dev.reynard.junit.faultload;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-
-import dev.reynard.junit.strategy.util.Lists;
-
-@JsonSerialize
-@JsonDeserialize
-public record FaultUid(List<FaultInjectionPoint> stack) {
-    public FaultUid {
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The call stack of a fault injection point, stored as a persistent list:
+ * every uid refers to its parent, so children and parents are created in
+ * constant time and share their prefix. Serialized as the full stack.
+ */
+public final class FaultUid {
+    private final FaultUid parent;
+    private final FaultInjectionPoint point;
+    // [nil, point] -> point regardless of causal origin
+    private final boolean anyStack;
+    private final int depth;
+    private final int hash;
+    private final boolean concrete;
+    private final boolean hasPredecessors;
+    // Lazily computed, computing it twice is harmless
+    private FaultUid key = null;
+
+    @JsonCreator
+    public FaultUid(@JsonProperty("stack") List<FaultInjectionPoint> stack) {
+        this(validate(stack));
+    }
+
+    private FaultUid(FaultUid other) {
+        this(other.parent, other.point, other.anyStack);
+    }
+
+    private FaultUid(FaultUid parent, FaultInjectionPoint point, boolean anyStack) {
+        this.parent = parent;
+        this.point = point;
+        this.anyStack = anyStack;
+        this.depth = anyStack ? 2 : (parent == null ? 1 : parent.depth + 1);
+        this.hash = 31 * (parent == null ? Boolean.hashCode(anyStack) : parent.hash) + point.hashCode();
+        this.concrete = !anyStack && point.isConcrete() && (parent == null || parent.concrete);
+        this.hasPredecessors = !point.isAnyPredecessors() || (parent != null && parent.hasPredecessors);
+    }
+
+    private static FaultUid validate(List<FaultInjectionPoint> stack) {
         // Shape must be:
         // [nil, point] -> point regardless of causal origin
         // [point, point...] -> point with causal origin
@@ -32,16 +64,44 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
                 throw new IllegalArgumentException(
                         "Second element of stack must not be null if first element is null.");
             }
-        } else {
-            if (stack.stream().anyMatch(x -> x == null)) {
+
+            return new FaultUid(null, stack.get(1), true);
+        }
+
+        FaultUid uid = null;
+        for (FaultInjectionPoint point : stack) {
+            if (point == null) {
                 throw new IllegalArgumentException(
                         "Only the first element of stack may be null to indicate a wildcard!");
             }
+
+            uid = new FaultUid(uid, point, false);
         }
+
+        return uid;
     }
 
     public static FaultUid anyTo(FaultInjectionPoint p) {
-        return new FaultUid(Arrays.asList(null, p));
+        return new FaultUid(null, p, true);
+    }
+
+    /** The points from the root to this point, a new list on every call. */
+    @JsonProperty("stack")
+    public List<FaultInjectionPoint> stack() {
+        FaultInjectionPoint[] points = new FaultInjectionPoint[depth];
+        FaultUid current = this;
+        for (int i = depth - 1; current != null; i--) {
+            points[i] = current.point;
+            current = current.parent;
+        }
+
+        // Arrays.asList, as the wildcard origin is a null element
+        return Collections.unmodifiableList(Arrays.asList(points));
+    }
+
+    @JsonIgnore
+    public int depth() {
+        return depth;
     }
 
     @JsonIgnore
@@ -61,23 +121,36 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
 
     @JsonIgnore
     public FaultUid asAnyPayload() {
-        var head = getPoint();
-        var tail = getTail();
-
-        return new FaultUid(Lists.plus(tail, head.asAnyPayload()));
+        return withPoint(point.asAnyPayload());
     }
 
     @JsonIgnore
     public boolean isAnyStack() {
-        if (stack == null || stack.isEmpty() || stack.size() == 1) {
-            return false;
-        }
+        return anyStack;
+    }
+
+    /**
+     * Whether no point in the stack has wildcards, apart from predecessors. A
+     * concrete uid only matches uids with the same {@link #key()}.
+     */
+    @JsonIgnore
+    public boolean isConcrete() {
+        return concrete;
+    }
 
-        if (stack.size() > 1) {
-            return stack.get(0) == null;
+    /** The uid without predecessors, to index concrete uids by. */
+    @JsonIgnore
+    public FaultUid key() {
+        if (!hasPredecessors) {
+            return this;
         }
 
-        return false;
+        FaultUid cached = key;
+        if (cached == null) {
+            cached = withoutPredecessors();
+            key = cached;
+        }
+        return cached;
     }
 
     /** Whether all points are without query */
@@ -108,19 +181,11 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
 
     @JsonIgnore
     public boolean hasParent(boolean includeRoot) {
-        if (stack == null || stack.isEmpty()) {
-            return false;
-        }
-
-        if (!includeRoot && stack.size() == 1) {
-            return false;
-        }
-
-        if (stack.get(0) == null) {
+        if (!includeRoot && depth == 1) {
             return false;
         }
 
-        return true;
+        return !anyStack;
     }
 
     @JsonIgnore
@@ -134,80 +199,78 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
             return null;
         }
 
-        return new FaultUid(getTail());
+        if (parent == null) {
+            throw new IllegalArgumentException("Stack must not be null and must have at least one element.");
+        }
+
+        return parent;
     }
 
     @JsonIgnore
     public FaultUid asChild(FaultInjectionPoint point) {
-        return new FaultUid(Lists.plus(stack, point));
+        if (point == null) {
+            throw new IllegalArgumentException(
+                    "Only the first element of stack may be null to indicate a wildcard!");
+        }
+
+        if (anyStack) {
+            // Keeps the original stack shape, which is rejected
+            return new FaultUid(Arrays.asList(null, this.point, point));
+        }
+
+        return new FaultUid(this, point, false);
     }
 
     @JsonIgnore
     public FaultUid asAnyCount() {
-        var head = getPoint();
-        var tail = getTail();
-
-        return new FaultUid(Lists.plus(tail, head.asAnyCount()));
+        return withPoint(point.asAnyCount());
     }
 
     @JsonIgnore
     public FaultUid asAnyPredecessors() {
-        var head = getPoint();
-        var tail = getTail();
-
-        return new FaultUid(Lists.plus(tail, head.asAnyPredecessors()));
+        return withPoint(point.asAnyPredecessors());
     }
 
     @JsonIgnore
     public FaultUid asAnySignature() {
-        var head = getPoint();
-        var tail = getTail();
-
-        return new FaultUid(Lists.plus(tail, head.asAnySignature()));
+        return withPoint(point.asAnySignature());
     }
 
     @JsonIgnore
     public FaultUid asAnyDestination() {
-        var head = getPoint();
-        var tail = getTail();
-
-        return new FaultUid(Lists.plus(tail, head.asAnyDestination()));
+        return withPoint(point.asAnyDestination());
     }
 
     @JsonIgnore
     public FaultUid asAnyOrigin() {
         var head = getPoint();
 
-        return new FaultUid(Arrays.asList(null, head));
+        return anyTo(head);
     }
 
     @JsonIgnore
     public FaultUid withCount(int count) {
-        var head = getPoint();
-        var tail = getTail();
+        return withPoint(point.withCount(count));
+    }
 
-        return new FaultUid(Lists.plus(tail, head.withCount(count)));
+    private FaultUid withPoint(FaultInjectionPoint point) {
+        return new FaultUid(parent, point, anyStack);
     }
 
     @JsonIgnore
     public FaultUid withoutPredecessors() {
-        List<FaultInjectionPoint> without = stack.stream()
-                .map(x -> x.asAnyPredecessors())
-                .toList();
-
-        return new FaultUid(without);
+        FaultUid without = parent == null ? null : parent.withoutPredecessors();
+        return new FaultUid(without, point.asAnyPredecessors(), anyStack);
     }
 
     @JsonIgnore
     public FaultUid asLocalised() {
-        if (stack.size() <= 2) {
+        if (depth <= 2) {
             return this;
         }
 
         FaultInjectionPoint origin = getOrigin().asAnyCount().asAnyPredecessors();
-        FaultInjectionPoint destination = getPoint();
-
-        return new FaultUid(List.of(origin, destination));
+        return new FaultUid(new FaultUid(null, origin, false), point, false);
     }
 
     @JsonIgnore
@@ -221,53 +284,85 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
     }
 
     @Override
-    public String toString() {
-        List<String> stackStrings = getTail().stream()
-                .map(FaultInjectionPoint::toString)
-                .toList();
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
 
-        if (stackStrings.isEmpty()) {
-            return getPoint().toString();
+        if (!(o instanceof FaultUid other)) {
+            return false;
+        }
+
+        FaultUid a = this;
+        FaultUid b = other;
+        // Shared prefixes end the walk early
+        while (a != b) {
+            if (a == null || b == null || a.hash != b.hash || a.depth != b.depth || a.anyStack != b.anyStack
+                    || !a.point.equals(b.point)) {
+                return false;
+            }
+
+            a = a.parent;
+            b = b.parent;
         }
 
-        return String.join(">", stackStrings) + ">" + getPoint().toString();
+        return true;
     }
 
-    @JsonIgnore
-    public FaultInjectionPoint getPoint() {
-        if (stack == null || stack.isEmpty()) {
-            return null;
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String pointString = point.toString();
+        if (anyStack) {
+            return "null>" + pointString;
         }
 
-        FaultInjectionPoint point = stack.get(stack.size() - 1);
-        if (point == null) {
-            return FaultInjectionPoint.Any();
+        if (parent == null) {
+            return pointString;
         }
 
+        return parent.toString() + ">" + pointString;
+    }
+
+    @JsonIgnore
+    public FaultInjectionPoint getPoint() {
         return point;
     }
 
     @JsonIgnore
     public FaultInjectionPoint getOrigin() {
-        if (stack == null || stack.size() < 2) {
+        if (parent == null) {
             return null;
         }
-        return stack.get(stack.size() - 2);
+
+        return parent.point;
     }
 
     @JsonIgnore
     public List<FaultInjectionPoint> getTail() {
-        return stack.subList(0, stack.size() - 1);
+        if (anyStack) {
+            return Arrays.asList((FaultInjectionPoint) null);
+        }
+
+        if (parent == null) {
+            return List.of();
+        }
+
+        return parent.stack();
     }
 
     @JsonIgnore
     public boolean isRoot() {
-        return stack.isEmpty();
+        return depth == 0;
     }
 
     @JsonIgnore
     public boolean isInitial() {
-        return stack.size() == 1;
+        return depth == 1;
     }
 
     @JsonIgnore
@@ -306,27 +401,20 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
         }
     }
 
-    private boolean matches(List<FaultInjectionPoint> a, List<FaultInjectionPoint> b, boolean ignoreCount) {
-        if (a == null || b == null) {
-            return false;
-        }
-
-        if (a.size() != b.size()) {
+    private boolean matchesStack(FaultUid other, boolean ignoreCount) {
+        if (depth != other.depth) {
             return false;
         }
 
-        for (int i = 0; i < a.size(); i++) {
-            var ap = a.get(i);
-            var bp = b.get(i);
-
-            if (ap == null || bp == null) {
-                throw new IllegalArgumentException(
-                        "FaultUid stack must not contain null elements except for the first element.");
-            }
-
-            if (!matches(ap, bp, ignoreCount)) {
+        FaultUid a = this;
+        FaultUid b = other;
+        while (a != b) {
+            if (!matches(a.point, b.point, ignoreCount)) {
                 return false;
             }
+
+            a = a.parent;
+            b = b.parent;
         }
 
         return true;
@@ -341,7 +429,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
             return matches(getPoint(), other.getPoint(), false);
         }
 
-        return matches(stack, other.stack, false);
+        return matchesStack(other, false);
     }
 
     public boolean matchesUpToCount(FaultUid other) {
@@ -353,7 +441,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
             return matches(getPoint(), other.getPoint(), true);
         }
 
-        return matches(stack, other.stack, true);
+        return matchesStack(other, true);
     }
 
     public static boolean contains(Collection<FaultUid> collection, FaultUid uid) {
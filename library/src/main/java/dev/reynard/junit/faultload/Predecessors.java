@@ -0,0 +1,138 @@
+package dev.reynard.junit.faultload;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import dev.reynard.junit.strategy.util.SymbolTable;
+
+/**
+ * The predecessors of a fault injection point, as a vector clock: for every
+ * preceding point, the number of times it was seen. Keys are interned in a
+ * global symbol table, and the clock is kept as (key id, count) pairs sorted
+ * by id, so comparisons are a single merge over both clocks. It is
+ * (de)serialized as a plain key to count map.
+ */
+public final class Predecessors {
+    private static final SymbolTable keys = new SymbolTable();
+    public static final Predecessors EMPTY = new Predecessors(new int[0], new int[0]);
+
+    private final int[] ids;
+    private final int[] counts;
+    private final int hash;
+
+    private Predecessors(int[] ids, int[] counts) {
+        this.ids = ids;
+        this.counts = counts;
+        this.hash = 31 * Arrays.hashCode(ids) + Arrays.hashCode(counts);
+    }
+
+    @JsonCreator
+    public static Predecessors of(Map<String, Integer> predecessors) {
+        if (predecessors == null) {
+            return null;
+        }
+
+        if (predecessors.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] entries = new long[predecessors.size()];
+        int i = 0;
+        for (var entry : predecessors.entrySet()) {
+            // Sort on the id in the upper half, keep the count in the lower half
+            entries[i++] = ((long) keys.intern(entry.getKey()) << 32) | (entry.getValue() & 0xffffffffL);
+        }
+
+        Arrays.sort(entries);
+        int[] ids = new int[entries.length];
+        int[] counts = new int[entries.length];
+        for (i = 0; i < entries.length; i++) {
+            ids[i] = (int) (entries[i] >>> 32);
+            counts[i] = (int) entries[i];
+        }
+
+        return new Predecessors(ids, counts);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    @JsonValue
+    public Map<String, Integer> asMap() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            map.put(keys.get(ids[i]), counts[i]);
+        }
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    /** Whether this clock happened strictly before the other one. */
+    public boolean isBefore(Predecessors other) {
+        boolean hasOneBefore = false;
+        int i = 0;
+        int j = 0;
+
+        while (i < ids.length || j < other.ids.length) {
+            if (j == other.ids.length || (i < ids.length && ids[i] < other.ids[j])) {
+                // this has an event that the other has not seen
+                return false;
+            }
+
+            if (i == ids.length || other.ids[j] < ids[i]) {
+                // the other has an event that this has not seen
+                hasOneBefore = true;
+                j++;
+                continue;
+            }
+
+            if (counts[i] > other.counts[j]) {
+                // this has an event that is after the other
+                return false;
+            }
+
+            if (counts[i] < other.counts[j]) {
+                hasOneBefore = true;
+            }
+
+            i++;
+            j++;
+        }
+
+        // All events are <=, and one is before
+        return hasOneBefore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (o instanceof Predecessors other) {
+            return hash == other.hash && Arrays.equals(ids, other.ids) && Arrays.equals(counts, other.counts);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        // {key1:value1,key2:value2, ...}, sorted by key
+        return "{" + asMap().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> e.getKey() + ":" + e.getValue())
+                .reduce((a, b) -> a + "," + b).orElse("") + "}";
+    }
+}
@@ -7,6 +7,6 @@ public class DelayFault {
 
   public static FailureMode fromDelayMs(int delayMs) {
     String intDelayMs = Integer.toString(delayMs);
-    return new FailureMode(FAULT_TYPE, List.of(intDelayMs));
+    return FailureMode.of(FAULT_TYPE, List.of(intDelayMs));
   }
 }
@@ -1,13 +1,21 @@
 package dev.reynard.junit.faultload.modes;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ErrorFault {
   public static String FAULT_TYPE = "HTTP_ERROR";
 
+  // Every erroneous response is converted to a mode
+  private static final Map<Integer, FailureMode> byStatus = new ConcurrentHashMap<>();
+
   public static FailureMode fromError(HttpError error) {
     String errorCode = Integer.toString(error.getErrorCode());
-    return new FailureMode(FAULT_TYPE, List.of(errorCode));
+    return FailureMode.of(FAULT_TYPE, List.of(errorCode));
   }
 
+  public static FailureMode fromStatus(int status) {
+    return byStatus.computeIfAbsent(status, x -> FailureMode.of(FAULT_TYPE, List.of(Integer.toString(x))));
+  }
 }
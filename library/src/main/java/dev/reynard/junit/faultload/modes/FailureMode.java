@@ -1,16 +1,89 @@
 package dev.reynard.junit.faultload.modes;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-public record FailureMode(String type, List<String> args) {
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A failure mode, interned in a global registry. Equal modes are the same
+ * instance, and every mode has a small ordinal that can index a bitmask.
+ */
+public final class FailureMode {
+  private static final Map<List<Object>, FailureMode> registry = new ConcurrentHashMap<>();
+  private static int nextOrdinal = 0;
+
+  private final String type;
+  private final List<String> args;
+  private final int ordinal;
+  private final int hash;
+
+  private FailureMode(String type, List<String> args, int ordinal) {
+    this.type = type;
+    this.args = args;
+    this.ordinal = ordinal;
+    this.hash = Objects.hash(type, args);
+  }
+
+  @JsonCreator
+  public static FailureMode of(@JsonProperty("type") String type, @JsonProperty("args") List<String> args) {
+    // Null tolerant, as a mode can be parsed without a type or with null arguments
+    List<String> copy = args == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(args));
+    List<Object> key = Arrays.asList(type, copy);
+    FailureMode mode = registry.get(key);
+    if (mode != null) {
+      return mode;
+    }
+
+    synchronized (registry) {
+      return registry.computeIfAbsent(key, x -> new FailureMode(type, copy, nextOrdinal++));
+    }
+  }
+
+  @JsonProperty("type")
+  public String type() {
+    return type;
+  }
+
+  @JsonProperty("args")
+  public List<String> args() {
+    return args;
+  }
+
+  /** Registration order of the mode, stable for the lifetime of the JVM. */
+  @JsonIgnore
+  public int ordinal() {
+    return ordinal;
+  }
+
+  @JsonIgnore
   public String getType() {
     return type;
   }
 
+  @JsonIgnore
   public List<String> getArgs() {
     return args;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    // Modes are interned
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
   @Override
   public String toString() {
     return type + "(" + String.join(", ", args) + ")";
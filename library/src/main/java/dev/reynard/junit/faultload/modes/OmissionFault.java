@@ -7,6 +7,6 @@ public class OmissionFault {
 
   public static FailureMode fromError(HttpError error) {
     String errorCode = Integer.toString(error.getErrorCode());
-    return new FailureMode(FAULT_TYPE, List.of(errorCode));
+    return FailureMode.of(FAULT_TYPE, List.of(errorCode));
   }
 }
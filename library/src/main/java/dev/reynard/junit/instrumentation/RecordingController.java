@@ -0,0 +1,77 @@
+package dev.reynard.junit.instrumentation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.instrumentation.controller.RecordedTrace;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+
+/**
+ * Decorates a controller and appends every (faultload, trace reports) pair to
+ * a newline-delimited JSON file, to be served later by a
+ * {@link ReplayController}.
+ */
+public class RecordingController implements FaultController {
+    private final Logger logger = LoggerFactory.getLogger(RecordingController.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final FaultController controller;
+    private final Path recordFile;
+
+    public RecordingController(FaultController controller, Path recordFile) {
+        this.controller = controller;
+        this.recordFile = recordFile;
+    }
+
+    public Path getRecordFile() {
+        return recordFile;
+    }
+
+    private synchronized void record(TrackedFaultload faultload, TraceAnalysis trace) throws IOException {
+        var entry = new RecordedTrace(faultload.getFaultload().faultSet(), trace.getReports());
+        String line = mapper.writeValueAsString(entry) + "\n";
+
+        if (recordFile.getParent() != null) {
+            Files.createDirectories(recordFile.getParent());
+        }
+
+        Files.writeString(recordFile, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+        TraceAnalysis trace = controller.getTrace(faultload);
+
+        try {
+            record(faultload, trace);
+        } catch (IOException e) {
+            logger.error("Failed to record trace for faultload: " + faultload.readableString(), e);
+        }
+
+        return trace;
+    }
+
+    @Override
+    public void registerFaultload(TrackedFaultload faultload) throws IOException {
+        controller.registerFaultload(faultload);
+    }
+
+    @Override
+    public void unregisterFaultload(TrackedFaultload faultload) throws IOException {
+        controller.unregisterFaultload(faultload);
+    }
+
+    @Override
+    public void withFaultload(TrackedFaultload faultload, Callable<Void> runnable) throws Exception {
+        controller.withFaultload(faultload, runnable);
+    }
+}
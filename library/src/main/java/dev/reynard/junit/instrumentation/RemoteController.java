@@ -14,6 +14,7 @@ import dev.reynard.junit.instrumentation.controller.ControllerResponse;
 import dev.reynard.junit.instrumentation.controller.LRUCache;
 import dev.reynard.junit.strategy.TrackedFaultload;
 import dev.reynard.junit.strategy.util.TraceAnalysis;
+import dev.reynard.junit.util.events.ControllerCallEvent;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -40,15 +41,35 @@ public class RemoteController implements FaultController {
         this.apiHost = null;
     }
 
-    private TraceAnalysis attemptToGetTrace(TrackedFaultload faultload) throws IOException {
+    private void commitCall(ControllerCallEvent event, String endpoint, TrackedFaultload faultload, int attempt,
+            int status, long requestBytes, long responseBytes) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.traceId = faultload.getTraceId();
+            event.faultloadSize = faultload.size();
+            event.attempt = attempt;
+            event.status = status;
+            event.requestBytes = requestBytes;
+            event.responseBytes = responseBytes;
+            event.commit();
+        }
+    }
+
+    private TraceAnalysis attemptToGetTrace(TrackedFaultload faultload, int attempt) throws IOException {
         String queryUrl = apiHost + "/v1/trace/" + faultload.getTraceId();
         Request request = new Request.Builder()
                 // .addHeader("Content-Type", "application/json")
                 .url(queryUrl)
                 .build();
 
+        var event = new ControllerCallEvent();
+        event.begin();
+
         try (Response httpRes = client.newCall(request).execute()) {
             String body = httpRes.body().string();
+            commitCall(event, "/v1/trace", faultload, attempt, httpRes.code(), 0, body.length());
             ControllerResponse response = new ObjectMapper().readValue(body,
                     new TypeReference<ControllerResponse>() {
                     });
@@ -70,8 +91,10 @@ public class RemoteController implements FaultController {
             throw new IllegalStateException("Collector URL not set");
         }
 
-        if (traceCache.containsKey(faultload.getTraceId())) {
-            return traceCache.get(faultload.getTraceId());
+        synchronized (traceCache) {
+            if (traceCache.containsKey(faultload.getTraceId())) {
+                return traceCache.get(faultload.getTraceId());
+            }
         }
 
         faultload.timer.start("getTraceWithDelay");
@@ -88,8 +111,10 @@ public class RemoteController implements FaultController {
 
         for (int attempt = 0; attempt < maxRetries; attempt++) {
             try {
-                var traceData = attemptToGetTrace(faultload);
-                traceCache.put(faultload.getTraceId(), traceData);
+                var traceData = attemptToGetTrace(faultload, attempt);
+                synchronized (traceCache) {
+                    traceCache.put(faultload.getTraceId(), traceData);
+                }
                 faultload.timer.stop("getTrace");
                 return traceData;
             } catch (IOException e) {
@@ -124,13 +149,18 @@ public class RemoteController implements FaultController {
                 .post(body)
                 .build();
 
+        var event = new ControllerCallEvent();
+        event.begin();
+
         try (Response httpRes = client.newCall(request).execute()) {
+            String resBody = httpRes.body().string(); // Ensure the request is executed
+            commitCall(event, "/v1/faultload/register", faultload, 0, httpRes.code(), jsonBody.length(),
+                    resBody.length());
+
             if (!httpRes.isSuccessful()) {
-                throw new IOException("Failed to register faultload: " + httpRes.body().string());
+                throw new IOException("Failed to register faultload: " + resBody);
             }
 
-            String resBody = httpRes.body().string(); // Ensure the request is executed
-
             if (!resBody.equals("OK")) {
                 throw new IOException("Failed to register faultload: " + resBody);
             }
@@ -157,13 +187,18 @@ public class RemoteController implements FaultController {
                 .post(body)
                 .build();
 
+        var event = new ControllerCallEvent();
+        event.begin();
+
         try (Response httpRes = client.newCall(request).execute()) {
+            String resBody = httpRes.body().string(); // Ensure the request is executed
+            commitCall(event, "/v1/faultload/unregister", faultload, 0, httpRes.code(), jsonBody.length(),
+                    resBody.length());
+
             if (!httpRes.isSuccessful()) {
-                throw new IOException("Failed to register faultload: " + httpRes.body().string());
+                throw new IOException("Failed to register faultload: " + resBody);
             }
 
-            String resBody = httpRes.body().string(); // Ensure the request is executed
-
             if (!resBody.equals("OK")) {
                 throw new IOException("Failed to unregister faultload: " + resBody);
             }
@@ -0,0 +1,96 @@
+package dev.reynard.junit.instrumentation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.instrumentation.controller.RecordedTrace;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+
+/**
+ * Serves traces from a file written by a {@link RecordingController}, or from
+ * the checkpoint of an earlier run. Traces are looked up by the injected
+ * faults, as trace ids differ between runs. Faultloads that were never
+ * recorded are flagged and result in an IOException.
+ */
+public class ReplayController implements FaultController {
+    private final Logger logger = LoggerFactory.getLogger(ReplayController.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<Set<Fault>, List<TraceReport>> recorded = new HashMap<>();
+    private final List<Faultload> unknownFaultloads = new ArrayList<>();
+
+    public ReplayController(Path recordFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(recordFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                RecordedTrace entry = mapper.readValue(line, RecordedTrace.class);
+                // Later recordings of the same faultload take precedence
+                recorded.put(entry.faults(), entry.reports());
+            }
+        }
+
+        logger.info("Loaded {} recorded traces from {}", recorded.size(), recordFile);
+    }
+
+    public boolean hasRecording(Faultload faultload) {
+        return recorded.containsKey(faultload.faultSet());
+    }
+
+    public int size() {
+        return recorded.size();
+    }
+
+    public synchronized List<Faultload> getUnknownFaultloads() {
+        return List.copyOf(unknownFaultloads);
+    }
+
+    @Override
+    public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+        List<TraceReport> reports = recorded.get(faultload.getFaultload().faultSet());
+
+        if (reports == null) {
+            synchronized (this) {
+                unknownFaultloads.add(faultload.getFaultload());
+            }
+            logger.warn("No recorded trace for faultload: {}", faultload.readableString());
+            throw new IOException("No recorded trace for faultload: " + faultload.readableString());
+        }
+
+        return new TraceAnalysis(reports);
+    }
+
+    @Override
+    public void registerFaultload(TrackedFaultload faultload) throws IOException {
+        // Nothing to register, the traces are already recorded
+    }
+
+    @Override
+    public void unregisterFaultload(TrackedFaultload faultload) throws IOException {
+    }
+
+    @Override
+    public void withFaultload(TrackedFaultload faultload, Callable<Void> runnable) throws Exception {
+        runnable.call();
+    }
+}
@@ -0,0 +1,129 @@
+package dev.reynard.junit.instrumentation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.instrumentation.trace.tree.TraceResponse;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.store.ImplicationsModel;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+
+/**
+ * In-process controller that answers traces from a declarative system model,
+ * without any running services. The model is an {@link ImplicationsStore}:
+ * downstream requests describe the call tree, inclusions/exclusions describe
+ * retries and fallbacks, and upstream responses describe error propagation.
+ */
+public class SimulatedController implements FaultController {
+    public static final int DEFAULT_ERROR_STATUS = 500;
+
+    private final ImplicationsStore model;
+    private final FaultUid root;
+    private final AtomicLong spanCounter = new AtomicLong();
+    private Function<Behaviour, Float> latency = x -> 1f;
+
+    public SimulatedController(ImplicationsStore model) {
+        this.model = model;
+        this.root = model.getRootCause();
+    }
+
+    public SimulatedController withLatency(Function<Behaviour, Float> latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public ImplicationsStore getModel() {
+        return model;
+    }
+
+    public List<TraceReport> getReports(Faultload faultload, String traceId) {
+        List<TraceReport> reports = new ArrayList<>();
+        // A fresh model per call, the store may still be extended in between
+        var implications = new ImplicationsModel(model);
+
+        for (var behaviour : implications.getBehaviours(faultload.faultSet())) {
+            TraceReport report = asReport(behaviour, faultload, traceId);
+            if (behaviour.uid().matches(root)) {
+                report.isInitial = true;
+            }
+            reports.add(report);
+        }
+
+        return reports;
+    }
+
+    public TraceAnalysis getTrace(Faultload faultload) {
+        return new TraceAnalysis(getReports(faultload, ""));
+    }
+
+    private TraceReport asReport(Behaviour behaviour, Faultload faultload, String traceId) {
+        TraceReport report = new TraceReport();
+        report.traceId = traceId;
+        report.spanId = String.format("%016x", spanCounter.incrementAndGet());
+        report.injectionPoint = behaviour.uid();
+        report.protocol = "HTTP";
+        report.concurrentTo = List.of();
+        report.injectedFault = faultload.faultSet().stream()
+                .filter(x -> x.uid().matches(behaviour.uid()))
+                .findFirst()
+                .orElse(null);
+
+        TraceResponse response = new TraceResponse();
+        response.status = getStatus(behaviour);
+        response.body = "";
+        response.durationMs = latency.apply(behaviour);
+        report.response = response;
+        return report;
+    }
+
+    private int getStatus(Behaviour behaviour) {
+        if (behaviour.mode() == null) {
+            return 200;
+        }
+
+        var args = behaviour.mode().args();
+        if (args == null || args.isEmpty()) {
+            return DEFAULT_ERROR_STATUS;
+        }
+
+        try {
+            return Integer.parseInt(args.get(0));
+        } catch (NumberFormatException e) {
+            return DEFAULT_ERROR_STATUS;
+        }
+    }
+
+    @Override
+    public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+        TraceAnalysis trace = new TraceAnalysis(getReports(faultload.getFaultload(), faultload.getTraceId()));
+
+        if (trace.isInvalid()) {
+            throw new IOException("Simulated trace is invalid!");
+        }
+
+        return trace;
+    }
+
+    @Override
+    public void registerFaultload(TrackedFaultload faultload) throws IOException {
+        // Nothing to register, faults are applied while building the trace
+    }
+
+    @Override
+    public void unregisterFaultload(TrackedFaultload faultload) throws IOException {
+    }
+
+    @Override
+    public void withFaultload(TrackedFaultload faultload, Callable<Void> runnable) throws Exception {
+        runnable.call();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.reynard.junit.instrumentation.controller;
+
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+
+/**
+ * A single recorded (faultload, trace reports) pair, stored as one JSON line.
+ * Checkpoint entries share these fields, so checkpoints can be replayed too.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonSerialize
+@JsonDeserialize
+public record RecordedTrace(
+        @JsonProperty("faults") Set<Fault> faults,
+        @JsonProperty("reports") List<TraceReport> reports) {
+}
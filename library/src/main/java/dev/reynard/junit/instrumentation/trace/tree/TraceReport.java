@@ -2,6 +2,7 @@ package dev.reynard.junit.instrumentation.trace.tree;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -47,6 +48,7 @@ public class TraceReport {
         return injectedFault == null && response != null && response.isErrenous();
     }
 
+    @JsonIgnore
     public Behaviour getBehaviour() {
         Fault fault = getFault();
         if (fault == null) {
@@ -56,6 +58,7 @@ public class TraceReport {
         return new Behaviour(injectionPoint, fault.mode());
     }
 
+    @JsonIgnore
     public Fault getFault() {
         if (injectedFault != null) {
             return injectedFault;
@@ -65,7 +68,7 @@ public class TraceReport {
             return null;
         }
 
-        FailureMode faultMode = new FailureMode(ErrorFault.FAULT_TYPE, List.of("" + response.status));
+        FailureMode faultMode = ErrorFault.fromStatus(response.status);
         return new Fault(injectionPoint, faultMode);
     }
 }
@@ -1,5 +1,6 @@
 package dev.reynard.junit.instrumentation.trace.tree;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -19,6 +20,7 @@ public class TraceResponse {
     @JsonProperty("overhead_duration_ms")
     public float overheadDurationMs;
 
+    @JsonIgnore
     public boolean isErrenous() {
         return !(status >= 200 && status < 300);
     }
@@ -0,0 +1,161 @@
+package dev.reynard.junit.strategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import dev.reynard.junit.strategy.components.FanOutVisitor;
+import dev.reynard.junit.strategy.components.FeedbackHandler;
+import dev.reynard.junit.strategy.components.StoreAccess;
+
+/**
+ * Schedules the feedback handlers for a single result. The order is a DAG:
+ * declared dependencies, plus every store reader depending on all store
+ * writers. Store writers run one at a time, in topological order (ties broken
+ * by registration order). Other handlers only wait for their dependencies.
+ */
+public class AnalysisScheduler {
+    private final List<FeedbackHandler> handlers;
+    // Indices in the list of handlers, as a handler can be registered twice
+    private final List<Integer> order;
+    private final List<Set<Integer>> dependencies;
+
+    public AnalysisScheduler(List<FeedbackHandler> handlers) {
+        this.handlers = List.copyOf(handlers);
+        this.dependencies = getDependencies(this.handlers);
+        this.order = sort(this.handlers, dependencies);
+    }
+
+    public List<FeedbackHandler> getOrder() {
+        return order.stream()
+                .map(handlers::get)
+                .toList();
+    }
+
+    private static boolean provides(FeedbackHandler handler, Class<?> dependency) {
+        if (handler instanceof FanOutVisitor fanOut) {
+            return fanOut.provides(dependency);
+        }
+
+        return dependency.isInstance(handler);
+    }
+
+    private static List<Set<Integer>> getDependencies(List<FeedbackHandler> handlers) {
+        List<Set<Integer>> edges = new ArrayList<>();
+
+        for (int i = 0; i < handlers.size(); i++) {
+            FeedbackHandler handler = handlers.get(i);
+            Set<Integer> dependsOn = new LinkedHashSet<>();
+
+            for (int j = 0; j < handlers.size(); j++) {
+                FeedbackHandler other = handlers.get(j);
+                if (other == handler) {
+                    continue;
+                }
+
+                // Dependencies on components that are not present are ignored
+                for (var dependency : handler.getDependencies()) {
+                    if (provides(other, dependency)) {
+                        dependsOn.add(j);
+                    }
+                }
+
+                // Readers should observe the store after all writes for this result
+                if (handler.getStoreAccess() == StoreAccess.STORE_READ
+                        && other.getStoreAccess() == StoreAccess.STORE_WRITE) {
+                    dependsOn.add(j);
+                }
+            }
+
+            edges.add(dependsOn);
+        }
+
+        return edges;
+    }
+
+    private static List<Integer> sort(List<FeedbackHandler> handlers, List<Set<Integer>> dependencies) {
+        List<Integer> sorted = new ArrayList<>();
+        Set<Integer> done = new LinkedHashSet<>();
+
+        // Repeatedly take the first handler whose dependencies are done
+        while (sorted.size() < handlers.size()) {
+            int next = -1;
+
+            for (int i = 0; i < handlers.size(); i++) {
+                if (!done.contains(i) && done.containsAll(dependencies.get(i))) {
+                    next = i;
+                    break;
+                }
+            }
+
+            if (next < 0) {
+                List<String> cycle = new ArrayList<>();
+                for (int i = 0; i < handlers.size(); i++) {
+                    if (!done.contains(i)) {
+                        cycle.add(handlers.get(i).getClass().getSimpleName());
+                    }
+                }
+                throw new IllegalStateException("Cyclic dependencies between feedback handlers: " + cycle);
+            }
+
+            sorted.add(next);
+            done.add(next);
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Run all handlers on the executor, and wait for them to complete. With a
+     * direct executor, this runs the handlers in topological order.
+     */
+    public void run(Executor executor, Consumer<FeedbackHandler> task) {
+        Map<Integer, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+        for (int index : order) {
+            FeedbackHandler handler = handlers.get(index);
+            StoreAccess access = handler.getStoreAccess();
+            List<CompletableFuture<Void>> waitFor = new ArrayList<>();
+
+            for (int dependency : dependencies.get(index)) {
+                waitFor.add(futures.get(dependency));
+            }
+
+            if (access == StoreAccess.STORE_WRITE) {
+                waitFor.add(lastWrite);
+            }
+
+            CompletableFuture<Void> future = CompletableFuture
+                    .allOf(waitFor.toArray(CompletableFuture[]::new))
+                    .thenRunAsync(() -> task.accept(handler), executor);
+
+            if (access == StoreAccess.STORE_WRITE) {
+                lastWrite = future;
+            }
+
+            futures.put(index, future);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+}
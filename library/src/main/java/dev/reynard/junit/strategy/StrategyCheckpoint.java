@@ -0,0 +1,165 @@
+package dev.reynard.junit.strategy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+
+/**
+ * Append-only journal of handled results. The strategy state (stores,
+ * generator queue, statistics) is a deterministic function of the results it
+ * was fed, so replaying the journal restores it. Each result is a single
+ * JSON line that is flushed to disk before the next test runs.
+ */
+public class StrategyCheckpoint {
+    public static final String FILE_NAME = "checkpoint.ndjson";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private final Logger logger = LoggerFactory.getLogger(StrategyCheckpoint.class);
+
+    private final Path file;
+    private boolean keepExisting = false;
+    private boolean prepared = false;
+
+    @JsonSerialize
+    @JsonDeserialize
+    public record Entry(
+            @JsonProperty("faults") Set<Fault> faults,
+            @JsonProperty("passed") boolean passed,
+            @JsonProperty("reports") List<TraceReport> reports) {
+
+        public FaultloadResult asResult() {
+            var tracked = new TrackedFaultload(new Faultload(faults));
+            return new FaultloadResult(tracked, new TraceAnalysis(reports), passed);
+        }
+    }
+
+    public StrategyCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Keep the entries already in the file, as the run resumes from them.
+     * Otherwise, the file is truncated before the first entry is written.
+     */
+    public synchronized StrategyCheckpoint withKeepExisting(boolean keepExisting) {
+        this.keepExisting = keepExisting;
+        return this;
+    }
+
+    private void prepare(FileChannel channel) throws IOException {
+        if (!keepExisting) {
+            channel.truncate(0);
+            return;
+        }
+
+        truncateToLastLine(channel);
+    }
+
+    /**
+     * A crashed run can leave a partial last line, drop it so the next entry
+     * starts on its own line.
+     */
+    static void truncateToLastLine(FileChannel channel) throws IOException {
+        long end = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear().limit((int) (end - start));
+            channel.read(buffer, start);
+
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    channel.truncate(start + i + 1);
+                    return;
+                }
+            }
+
+            end = start;
+        }
+
+        channel.truncate(0);
+    }
+
+    public synchronized void append(FaultloadResult result) throws IOException {
+        var entry = new Entry(result.trackedFaultload.getFaultload().faultSet(), result.passed,
+                result.trace.getReports());
+        byte[] line = (mapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        if (!prepared) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                prepare(channel);
+            }
+            prepared = true;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    public Map<Set<Fault>, Entry> load() throws IOException {
+        Map<Set<Fault>, Entry> entries = new LinkedHashMap<>();
+
+        if (!Files.exists(file)) {
+            logger.warn("No checkpoint found at {}, starting from scratch", file);
+            return entries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    Entry entry = mapper.readValue(line, Entry.class);
+                    entries.put(entry.faults(), entry);
+                } catch (JsonProcessingException e) {
+                    // Only the last line can be partially written by a crashed run
+                    logger.warn("Ignoring incomplete checkpoint entry in {}", file);
+                }
+            }
+        }
+
+        logger.info("Loaded {} results from checkpoint {}", entries.size(), file);
+        return entries;
+    }
+}
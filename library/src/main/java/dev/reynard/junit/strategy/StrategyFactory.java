@@ -0,0 +1,118 @@
+package dev.reynard.junit.strategy;
+
+import java.util.List;
+
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.strategy.components.FanOutVisitor;
+import dev.reynard.junit.strategy.components.analyzers.BehaviorAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.ConcurrencyDetector;
+import dev.reynard.junit.strategy.components.analyzers.ConditionalPointDetector;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.FaultsWithoutCauseOracle;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.analyzers.RedundancyAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.StatusAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.StatusPropagationOracle;
+import dev.reynard.junit.strategy.components.analyzers.TimingAnalyzer;
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
+import dev.reynard.junit.strategy.components.pruners.FaultloadSizePruner;
+import dev.reynard.junit.strategy.components.pruners.NoImpactPruner;
+import dev.reynard.junit.strategy.components.pruners.UnreachabilityPruner;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+
+/**
+ * Creates a strategy with the standard set of components, as used by the FiTest
+ * extension. Runner options that do not change the components, such as limits
+ * and payload masking, are left to the caller.
+ */
+public class StrategyFactory {
+    public static final List<FailureMode> DEFAULT_MODES = List.of(
+            ErrorFault.fromError(HttpError.INTERNAL_SERVER_ERROR),
+            ErrorFault.fromError(HttpError.BAD_GATEWAY),
+            ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE),
+            ErrorFault.fromError(HttpError.GATEWAY_TIMEOUT));
+
+    private List<FailureMode> modes = DEFAULT_MODES;
+    private TraversalOrder pointOrder = TraversalOrder.DEPTH_FIRST_POST_ORDER;
+    private boolean depthFirstSearchOrder = false;
+    private boolean optimizeForRetries = false;
+    private boolean optimizeForImpactless = false;
+    private int maxFaultloadSize = 0;
+
+    public StrategyFactory withModes(List<FailureMode> modes) {
+        this.modes = modes;
+        return this;
+    }
+
+    public StrategyFactory withPointOrder(TraversalOrder pointOrder) {
+        this.pointOrder = pointOrder;
+        return this;
+    }
+
+    public StrategyFactory withDepthFirstSearchOrder(boolean depthFirstSearchOrder) {
+        this.depthFirstSearchOrder = depthFirstSearchOrder;
+        return this;
+    }
+
+    public StrategyFactory withOptimizeForRetries(boolean optimizeForRetries) {
+        this.optimizeForRetries = optimizeForRetries;
+        return this;
+    }
+
+    public StrategyFactory withOptimizeForImpactless(boolean optimizeForImpactless) {
+        this.optimizeForImpactless = optimizeForImpactless;
+        return this;
+    }
+
+    /** Only explore faultloads up to the given size, 0 means no limit */
+    public StrategyFactory withMaxFaultloadSize(int maxFaultloadSize) {
+        this.maxFaultloadSize = maxFaultloadSize;
+        return this;
+    }
+
+    public List<FailureMode> getModes() {
+        return modes;
+    }
+
+    public StrategyRunner create() {
+        StrategyRunner strategy = new StrategyRunner(modes);
+        strategy
+                .withComponent(new DynamicExplorationGenerator(strategy.getStore(), strategy::prune, pointOrder,
+                        !depthFirstSearchOrder))
+                // These components detect the necessairy info
+                // for the implications store
+                .withComponent(new HappyPathDetector())
+                // Visit the reports once for the store writers that only need the trace
+                .withComponent(new FanOutVisitor(
+                        new ParentChildDetector(),
+                        new HappensBeforeNeighbourDetector()))
+                .withComponent(new ErrorPropagationDetector())
+                // Note: ConditionalPointDetector declares its dependency on the detectors
+                // above, as it relies on the implications
+                .withComponent(new ConditionalPointDetector(optimizeForRetries))
+                .withComponent(new RedundancyAnalyzer())
+                .withComponent(new StatusAnalyzer())
+                // Visit the reports once for the reporting analyzers, the timings are
+                // cheap enough to wait for the store writers with the behaviours
+                .withComponent(new FanOutVisitor(
+                        new BehaviorAnalyzer(),
+                        new TimingAnalyzer()))
+                .withComponent(new StatusPropagationOracle())
+                .withComponent(new FaultsWithoutCauseOracle())
+                .withComponent(new ConcurrencyDetector())
+                .withComponent(new UnreachabilityPruner())
+                .withComponent(new NoImpactPruner(optimizeForImpactless))
+                .withComponent(new DynamicReductionPruner());
+
+        if (maxFaultloadSize > 0) {
+            strategy.withComponent(new FaultloadSizePruner(maxFaultloadSize));
+        }
+
+        return strategy;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.reynard.junit.strategy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+
+/**
+ * Serves the live progress of a strategy in the Prometheus text format, on
+ * /metrics. The store is not read directly, its sizes are published by the
+ * strategy after each step, so a scrape can be slightly behind the running
+ * exploration.
+ */
+public class StrategyMetricsServer {
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private final Logger logger = LoggerFactory.getLogger(StrategyMetricsServer.class);
+    private final StrategyRunner runner;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StrategyMetricsServer(StrategyRunner runner) {
+        this.runner = runner;
+    }
+
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reynard-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+        logger.info("Serving metrics on port {}", getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        StrategyStatistics statistics = runner.statistics;
+        String context = label("context", runner.getContextName());
+
+        metric(out, "reynard_tests_run_total", "counter", "Number of executed tests",
+                context, statistics.getTotalRun());
+        metric(out, "reynard_generated_total", "counter", "Number of generated faultloads",
+                context, statistics.getTotalGenerated());
+        metric(out, "reynard_prune_invocations_total", "counter", "Number of pruned faultloads",
+                context, statistics.getTotalPruned());
+
+        Map<String, Long> prunerCount;
+        synchronized (statistics) {
+            prunerCount = new LinkedHashMap<>(statistics.getPrunerCount());
+        }
+
+        header(out, "reynard_pruned_total", "counter", "Number of faultloads pruned, by pruner");
+        for (var entry : prunerCount.entrySet()) {
+            sample(out, "reynard_pruned_total", context + "," + label("pruner", entry.getKey()), entry.getValue());
+        }
+
+        if (runner.getGenerator() instanceof DynamicExplorationGenerator) {
+            metric(out, "reynard_frontier_size", "gauge", "Number of faultloads queued for exploration",
+                    context, statistics.getFrontierSize());
+        }
+
+        metric(out, "reynard_fault_injection_points", "gauge", "Number of known fault injection points",
+                context, statistics.getPointCount());
+
+        header(out, "reynard_redundant_sets", "gauge", "Number of stored redundant sets, by kind");
+        sample(out, "reynard_redundant_sets", context + "," + label("kind", "faultloads"),
+                statistics.getRedundantFaultloadCount());
+        sample(out, "reynard_redundant_sets", context + "," + label("kind", "uid_subsets"),
+                statistics.getRedundantUidSubsetCount());
+        sample(out, "reynard_redundant_sets", context + "," + label("kind", "fault_subsets"),
+                statistics.getRedundantFaultSubsetCount());
+
+        metric(out, "reynard_historic_results", "gauge", "Number of results kept in the store",
+                context, statistics.getHistoricResultCount());
+
+        header(out, "reynard_timing_seconds", "summary", "Duration of tagged strategy steps");
+        for (var timer : statistics.getMetrics().getTimers()) {
+            String labels = context + "," + label("tag", timer.getTag());
+            for (double quantile : QUANTILES) {
+                sample(out, "reynard_timing_seconds", labels + "," + label("quantile", String.valueOf(quantile)),
+                        timer.getValueAtPercentile(quantile * 100) / 1e9);
+            }
+
+            sample(out, "reynard_timing_seconds_sum", labels, timer.getMean() * timer.getCount() / 1e9);
+            sample(out, "reynard_timing_seconds_count", labels, timer.getCount());
+        }
+
+        // The heap is shared with the system under test, so this is an upper bound
+        metric(out, "reynard_heap_used_bytes", "gauge", "Heap in use by the test JVM",
+                context, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+
+        return out.toString();
+    }
+
+    private static void metric(StringBuilder out, String name, String type, String help, String labels,
+            double value) {
+        header(out, name, type, help);
+        sample(out, name, labels, value);
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ");
+
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+
+        out.append('\n');
+    }
+
+    private static String label(String name, String value) {
+        String escaped = value
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+}
@@ -8,17 +8,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import dev.reynard.junit.strategy.components.ComponentAttribution;
 import dev.reynard.junit.strategy.components.FeedbackContextProvider;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.PruneContextProvider;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StreamingReporter;
 import dev.reynard.junit.strategy.util.Env;
-import dev.reynard.junit.strategy.util.Pair;
 import dev.reynard.junit.strategy.util.Sets;
 import dev.reynard.junit.strategy.util.StringFormat;
 
@@ -26,13 +27,12 @@ public class StrategyReporter {
     public static int DEFAULT_WIDTH = 48;
     private StrategyRunner runner;
     private StrategyStatistics statistics;
-    private static final ObjectMapper mapper = new ObjectMapper();
-    private static final DefaultPrettyPrinter printer = new DefaultPrettyPrinter();
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
 
     public StrategyReporter(StrategyRunner runner) {
         this.runner = runner;
         this.statistics = runner.statistics;
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
     }
 
     public static void printNewline() {
@@ -86,14 +86,6 @@ public class StrategyReporter {
         printLine(key + " : " + value);
     }
 
-    private List<Long> getForTag(String tag) {
-        return statistics.getTimings().stream()
-                .filter(entry -> entry.first().equals(tag))
-                .mapToLong(Pair::second)
-                .boxed()
-                .toList();
-    }
-
     private Object nsConversions(long ns) {
         Map<String, Object> conv = new LinkedHashMap<>();
         conv.put("ns", ns);
@@ -116,27 +108,23 @@ public class StrategyReporter {
         Map<String, Object> stats = new LinkedHashMap<>();
         Map<String, Object> details = new LinkedHashMap<>();
 
-        for (String tag : statistics.getTags()) {
-            List<Long> values = getForTag(tag);
-            details.put(tag, values);
+        for (var timer : statistics.getMetrics().getTimers()) {
+            String tag = timer.getTag();
             Map<String, Object> statsReport = new LinkedHashMap<>();
-            double average = values.stream()
-                    .mapToLong(x -> x)
-                    .average()
-                    .orElse(0.0);
-            long max = values.stream()
-                    .mapToLong(x -> x)
-                    .max()
-                    .orElse(0);
-            long min = values.stream()
-                    .mapToLong(x -> x)
-                    .min()
-                    .orElse(0);
-            statsReport.put("count", values.size());
-            statsReport.put("average", nsConversions(average));
-            statsReport.put("min", nsConversions(min));
-            statsReport.put("max", nsConversions(max));
+            statsReport.put("count", timer.getCount());
+            statsReport.put("average", nsConversions(timer.getMean()));
+            statsReport.put("min", nsConversions(timer.getMin()));
+            statsReport.put("max", nsConversions(timer.getMax()));
+            statsReport.put("p50", nsConversions(timer.getValueAtPercentile(50)));
+            statsReport.put("p90", nsConversions(timer.getValueAtPercentile(90)));
+            statsReport.put("p99", nsConversions(timer.getValueAtPercentile(99)));
             stats.put(tag, statsReport);
+
+            // Raw values are only kept on request
+            List<Long> values = timer.getValues();
+            if (!values.isEmpty()) {
+                details.put(tag, values);
+            }
         }
 
         Map<String, Object> report = new LinkedHashMap<>();
@@ -151,7 +139,8 @@ public class StrategyReporter {
 
         long totalGenerated = statistics.getTotalGenerated();
 
-        Set<String> names = Sets.union(prunerCount.keySet(), FeedbackContextProvider.getContextNames());
+        Map<String, ComponentAttribution> attributions = runner.getAttributions();
+        Set<String> names = Sets.union(prunerCount.keySet(), attributions.keySet());
 
         for (var contextName : names) {
             Map<String, Object> prunerReport = new LinkedHashMap<>();
@@ -164,8 +153,8 @@ public class StrategyReporter {
                                 "percentage", (double) 100.0 * value / totalGenerated));
             }
 
-            if (FeedbackContextProvider.hasContext(contextName)) {
-                prunerReport.putAll(FeedbackContextProvider.getReport(contextName, runner.getGenerator()));
+            if (attributions.containsKey(contextName)) {
+                prunerReport.putAll(FeedbackContextProvider.getReport(runner, contextName));
             }
 
             if (prunerReport.size() > 0) {
@@ -178,23 +167,28 @@ public class StrategyReporter {
 
     public void reportOnReporter(Reporter reporter) {
         PruneContext context = new PruneContextProvider(runner, this.getClass());
-        Object report = reporter.report(context);
         String name = reporter.getClass().getSimpleName();
+
+        if (reporter instanceof StreamingReporter streaming) {
+            reportOn(generator -> streaming.writeReport(generator, context), name);
+            return;
+        }
+
+        Object report = reporter.report(context);
         reportOn(report, name);
     }
 
-    private void reportOn(Object report, String subcontext) {
-        String json;
-        try {
-            json = mapper.writer(printer)
-                    .writeValueAsString(report);
-        } catch (JsonProcessingException e) {
-            json = e.getMessage();
-            json += "\n\n" + report.toString();
-        }
+    @FunctionalInterface
+    private interface ReportWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
 
-        boolean logToConsole = true;
+    private void reportOn(Object report, String subcontext) {
+        reportOn(generator -> mapper.writeValue(generator, report), subcontext);
+    }
 
+    private void reportOn(ReportWriter writer, String subcontext) {
+        // Reports are written as they are generated, and never held as a whole
         String outputTag = Env.getEnv(Env.Keys.OUTPUT_TAG);
         if (runner.hasOutputDir()) {
             Path dir = runner.getOutputDir()
@@ -202,20 +196,26 @@ public class StrategyReporter {
                     .resolve(outputTag);
             dir.toFile().mkdirs();
             Path file = dir.resolve(subcontext + ".json");
-            try {
-                mapper.writeValue(file.toFile(), report);
-                logToConsole = false;
-            } catch (JsonProcessingException e) {
-                e.printStackTrace();
+            try (JsonGenerator generator = mapper.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                writer.write(generator);
+                return;
             } catch (IOException e) {
                 e.printStackTrace();
             }
         }
 
-        if (logToConsole) {
+        printNewline();
+        printHeader(subcontext);
+        try {
+            JsonGenerator generator = mapper.createGenerator(System.out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .useDefaultPrettyPrinter();
+            writer.write(generator);
+            generator.flush();
             printNewline();
-            printHeader(subcontext);
-            System.out.println(json);
+        } catch (IOException e) {
+            printLine(e.getMessage());
         }
     }
 
@@ -224,48 +224,44 @@ public class StrategyReporter {
 
         for (var failure : statistics.getFailures()) {
             Map<String, Object> failureReport = new LinkedHashMap<>();
-            List<Map<String, Object>> faultload = failure.trackedFaultload.getFaultload().faultSet().stream()
-                    .map(x -> {
-                        Map<String, Object> faultReport = new LinkedHashMap<>();
-                        faultReport.put("point", x.uid().toString());
-                        faultReport.put("mode", x.mode().toString());
-                        return faultReport;
-                    })
-                    .toList();
-            failureReport.put("faultload", faultload);
-
-            List<Map<String, Object>> behaviour = failure.trace.getReports().stream()
-                    .map(x -> {
-                        Map<String, Object> behaviourReport = new LinkedHashMap<>();
-                        behaviourReport.put("point", x.injectionPoint.toString());
-                        behaviourReport.put("response_status", x.response.status);
-
-                        if (x.injectedFault == null) {
-                            behaviourReport.put("response_duration_ms", x.response.durationMs);
-                            if (x.hasFaultBehaviour()) {
-                                behaviourReport.put("fault", x.getFault().mode().toString());
-                            }
-                        } else {
-                            behaviourReport.put("injected_fault", x.getFault().mode().toString());
-                        }
-
-                        return behaviourReport;
-                    })
-                    .toList();
-
-            failureReport.put("observed", behaviour);
+            failureReport.put("faultload", StrategyResultLog.faultloadReport(failure.trackedFaultload.getFaultload()));
+            failureReport.put("observed", StrategyResultLog.observedReport(failure.trace));
             failures.add(failureReport);
         }
 
         return failures;
     }
 
+    private void writeFailures(JsonGenerator generator) throws IOException {
+        StrategyResultLog log = runner.getResultLog();
+        if (log == null) {
+            mapper.writeValue(generator, reportFailures());
+            return;
+        }
+
+        // Failures are not kept in memory when they are logged
+        generator.writeStartArray();
+        log.forEach(entry -> {
+            if (entry.path("passed").asBoolean(true)) {
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("faultload");
+            mapper.writeTree(generator, entry.get("faultload"));
+            generator.writeFieldName("observed");
+            mapper.writeTree(generator, entry.get("observed"));
+            generator.writeEndObject();
+        });
+        generator.writeEndArray();
+    }
+
     public void report() {
         reportOn(reportSearchSpace(), "search_space");
         reportOn(reportComponents(), "components");
         reportOn(reportPrunerStats(), "pruners");
         reportOn(reportTimingStats(), "timing");
-        reportOn(reportFailures(), "failures");
+        reportOn(this::writeFailures, "failures");
 
         for (var reporter : runner.getReporters()) {
             reportOnReporter(reporter);
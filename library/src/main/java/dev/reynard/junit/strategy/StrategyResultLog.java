@@ -0,0 +1,255 @@
+package dev.reynard.junit.strategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+
+/**
+ * Append-only log of executed faultloads, written while the run progresses.
+ * Unlike the checkpoint, it only keeps a compact summary of every result, and
+ * can be gzip-compressed. Every line is flushed, so the log survives a killed
+ * run up to the last handled result. An existing log is replaced, unless it is
+ * kept to resume a run.
+ */
+public class StrategyResultLog {
+    public static final String FILE_NAME = "results.ndjson";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private final Logger logger = LoggerFactory.getLogger(StrategyResultLog.class);
+
+    private final Path file;
+    private final boolean compressed;
+    private Writer writer = null;
+    private long index = 0;
+    private boolean keepExisting = false;
+
+    public StrategyResultLog(Path file) {
+        this.file = file;
+        this.compressed = file.getFileName().toString().endsWith(".gz");
+    }
+
+    @FunctionalInterface
+    public interface EntryHandler {
+        void accept(JsonNode entry) throws IOException;
+    }
+
+    public static Path resolve(Path dir, boolean compressed) {
+        return dir.resolve(compressed ? FILE_NAME + ".gz" : FILE_NAME);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /** Append to an existing log, instead of replacing it on the first append */
+    public synchronized StrategyResultLog withKeepExisting(boolean keepExisting) {
+        this.keepExisting = keepExisting;
+        return this;
+    }
+
+    public static List<Map<String, Object>> faultloadReport(Faultload faultload) {
+        return faultload.faultSet().stream()
+                .map(x -> {
+                    Map<String, Object> faultReport = new LinkedHashMap<>();
+                    faultReport.put("point", x.uid().toString());
+                    faultReport.put("mode", x.mode().toString());
+                    return faultReport;
+                })
+                .toList();
+    }
+
+    public static List<Map<String, Object>> observedReport(TraceAnalysis trace) {
+        return trace.getReports().stream()
+                .map(x -> {
+                    Map<String, Object> behaviourReport = new LinkedHashMap<>();
+                    behaviourReport.put("point", x.injectionPoint.toString());
+                    behaviourReport.put("response_status", x.response.status);
+
+                    if (x.injectedFault == null) {
+                        behaviourReport.put("response_duration_ms", x.response.durationMs);
+                        if (x.hasFaultBehaviour()) {
+                            behaviourReport.put("fault", x.getFault().mode().toString());
+                        }
+                    } else {
+                        behaviourReport.put("injected_fault", x.getFault().mode().toString());
+                    }
+
+                    return behaviourReport;
+                })
+                .toList();
+    }
+
+    public synchronized void append(FaultloadResult result) throws IOException {
+        if (writer == null) {
+            open();
+        }
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("index", index++);
+        entry.put("trace_id", result.trackedFaultload.getTraceId());
+        entry.put("passed", result.passed);
+        entry.put("faultload", faultloadReport(result.trackedFaultload.getFaultload()));
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (var timing : result.trackedFaultload.timer.getTimingsNs()) {
+            timings.put(timing.first(), timing.second());
+        }
+        entry.put("timings_ns", timings);
+        entry.put("observed", observedReport(result.trace));
+
+        writer.write(mapper.writeValueAsString(entry));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private void open() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        if (keepExisting && Files.exists(file)) {
+            if (compressed) {
+                index = rewriteCompressed();
+            } else {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+                    StrategyCheckpoint.truncateToLastLine(channel);
+                }
+
+                // Continue the numbering of the existing entries
+                long[] count = { 0 };
+                forEach(entry -> count[0]++);
+                index = count[0];
+            }
+        }
+
+        OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                keepExisting ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        if (compressed) {
+            // Sync flush makes every line readable, even without the gzip trailer
+            out = new GZIPOutputStream(out, true);
+        }
+
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A killed run leaves a gzip member without a trailer, and a new member
+     * appended behind it would be unreadable. Copy the readable entries into a
+     * complete member instead, and replace the log in one move.
+     */
+    private long rewriteCompressed() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long[] count = { 0 };
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            forEach(entry -> {
+                out.write(mapper.writeValueAsString(entry));
+                out.write('\n');
+                count[0]++;
+            });
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count[0];
+    }
+
+    /** Stream the logged entries in order, without loading the whole log. */
+    public synchronized void forEach(EntryHandler handler) throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        InputStream in = Files.newInputStream(file);
+        if (compressed) {
+            in = new TruncatedGzipInputStream(in);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonNode entry;
+                try {
+                    entry = mapper.readTree(line);
+                } catch (JsonProcessingException e) {
+                    // Only the last line can be partially written by a crashed run
+                    logger.warn("Ignoring incomplete result log entry in {}", file);
+                    continue;
+                }
+
+                handler.accept(entry);
+            }
+        }
+    }
+
+    // The gzip trailer is missing while the log is still open, or after a
+    // crash, treat that as the end of the log instead of failing
+    private static class TruncatedGzipInputStream extends FilterInputStream {
+        TruncatedGzipInputStream(InputStream in) throws IOException {
+            super(new GZIPInputStream(in));
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (EOFException | ZipException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (EOFException | ZipException e) {
+                return -1;
+            }
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
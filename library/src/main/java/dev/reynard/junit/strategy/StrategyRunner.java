@@ -1,17 +1,29 @@
 package dev.reynard.junit.strategy;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.reynard.junit.faultload.Behaviour;
 import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultUid;
 import dev.reynard.junit.faultload.Faultload;
 import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.strategy.components.ComponentAttribution;
+import dev.reynard.junit.strategy.components.FanOutVisitor;
 import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackContextProvider;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
@@ -22,8 +34,14 @@ import dev.reynard.junit.strategy.components.Reporter;
 import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
 import dev.reynard.junit.strategy.components.generators.Generator;
 import dev.reynard.junit.strategy.store.DynamicAnalysisStore;
+import dev.reynard.junit.strategy.store.StoreSnapshot;
+import dev.reynard.junit.strategy.util.Env;
 import dev.reynard.junit.strategy.util.Sets;
+import dev.reynard.junit.util.MetricsRegistry;
 import dev.reynard.junit.util.TaggedTimer;
+import dev.reynard.junit.util.events.AnalyzeEvent;
+import dev.reynard.junit.util.events.GenerateEvent;
+import dev.reynard.junit.util.events.PruneEvent;
 
 public class StrategyRunner {
     private DynamicAnalysisStore store;
@@ -31,8 +49,20 @@ public class StrategyRunner {
 
     private final List<FeedbackHandler> analyzers = new ArrayList<>();
     private final List<Pruner> pruners = new ArrayList<>();
+    // Timer handles of the pruners, by index
+    private final List<MetricsRegistry.Timer> pruneTimers = new ArrayList<>();
     private final List<Reporter> reporters = new ArrayList<>();
     private final List<String> componentNames = new ArrayList<>();
+    private AnalysisScheduler scheduler = null;
+    private ExecutorService analysisExecutor = null;
+    // Pipelined analysis of the last result, and the faultload picked meanwhile
+    private ExecutorService pipelineExecutor = null;
+    private CompletableFuture<Void> pendingAnalysis = null;
+    private Faultload speculative = null;
+    // Handed out while the analysis of the previous result was still running
+    private Faultload unconfirmed = null;
+    // Per-component counters, used to attribute the impact of each component
+    private final Map<String, ComponentAttribution> attributions = new ConcurrentHashMap<>();
 
     public StrategyStatistics statistics = new StrategyStatistics(this);
 
@@ -55,6 +85,14 @@ public class StrategyRunner {
     private Path outputDir = null;
     private String contextName = "";
 
+    private StrategyCheckpoint checkpoint = null;
+    private StrategyResultLog resultLog = null;
+    private Path resumeFile = null;
+    private Map<Set<Fault>, StrategyCheckpoint.Entry> resumeEntries = Map.of();
+    private StoreSnapshot warmStart = null;
+    private SuiteKnowledge suiteKnowledge = null;
+    private StrategyMetricsServer metricsServer = null;
+
     private final Logger logger = LoggerFactory.getLogger(StrategyRunner.class);
 
     public StrategyRunner(List<FailureMode> modes) {
@@ -107,7 +145,149 @@ public class StrategyRunner {
         return this;
     }
 
+    /**
+     * Run independent feedback handlers concurrently. Store writers still run
+     * one at a time, in the order of their dependencies.
+     */
+    public StrategyRunner withParallelAnalysis() {
+        if (analysisExecutor == null) {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            analysisExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "reynard-analysis");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Analyze the result of a test in the background, while the next test
+     * runs. The next faultload is generated on the calling thread before the
+     * analysis starts, as the store is not thread-safe, and is handed out
+     * without waiting for the analysis. Once it has run, it is checked against
+     * the updated store in {@link #submitResult}, and its result is dropped if
+     * the analysis made it redundant.
+     */
+    public StrategyRunner withPipelinedAnalysis() {
+        if (pipelineExecutor == null) {
+            pipelineExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "reynard-pipeline");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this;
+    }
+
+    public StrategyRunner withCheckpoint(Path file) {
+        checkpoint = new StrategyCheckpoint(file).withKeepExisting(file.equals(resumeFile));
+        return this;
+    }
+
+    public StrategyRunner withResultLog(Path file) {
+        resultLog = new StrategyResultLog(file).withKeepExisting(resumesInto(file));
+        return this;
+    }
+
+    public StrategyResultLog getResultLog() {
+        return resultLog;
+    }
+
+    public void closeResultLog() {
+        if (resultLog == null) {
+            return;
+        }
+
+        try {
+            resultLog.close();
+        } catch (IOException e) {
+            logger.error("Failed to close result log", e);
+        }
+    }
+
+    // Whether the run resumes from the directory the file is written to
+    private boolean resumesInto(Path file) {
+        if (resumeFile == null) {
+            return false;
+        }
+
+        Path resumeDir = resumeFile.toAbsolutePath().getParent();
+        return resumeDir != null && resumeDir.equals(file.toAbsolutePath().getParent());
+    }
+
+    public StrategyRunner withResumeFrom(Path file) {
+        try {
+            resumeEntries = new StrategyCheckpoint(file).load();
+            resumeFile = file;
+
+            if (checkpoint != null) {
+                checkpoint.withKeepExisting(checkpoint.getFile().equals(file));
+            }
+
+            if (resultLog != null) {
+                resultLog.withKeepExisting(resumesInto(resultLog.getFile()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load checkpoint: " + file, e);
+        }
+        return this;
+    }
+
+    public StrategyRunner withWarmStart(Path file) {
+        try {
+            warmStart = StoreSnapshot.read(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load model: " + file, e);
+        }
+        return this;
+    }
+
+    public StrategyRunner withSuiteKnowledge(SuiteKnowledge knowledge) {
+        this.suiteKnowledge = knowledge;
+        return this;
+    }
+
+    /** Serve live metrics in the Prometheus text format, 0 picks a free port. */
+    public StrategyRunner withMetricsEndpoint(int port) {
+        try {
+            metricsServer = new StrategyMetricsServer(this);
+            metricsServer.start(port);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start metrics endpoint on port " + port, e);
+        }
+        return this;
+    }
+
+    public StrategyMetricsServer getMetricsServer() {
+        return metricsServer;
+    }
+
+    public void stopMetricsEndpoint() {
+        if (metricsServer != null) {
+            metricsServer.stop();
+            metricsServer = null;
+        }
+    }
+
     public StrategyRunner withComponent(Object component) {
+        if (component instanceof FanOutVisitor fanOut) {
+            analyzers.add(fanOut);
+            scheduler = null;
+
+            // The visitors share a single pass, but keep their other roles
+            for (var visitor : fanOut.getVisitors()) {
+                registerComponent(visitor, false);
+            }
+
+            return this;
+        }
+
+        registerComponent(component, true);
+        return this;
+    }
+
+    private void registerComponent(Object component, boolean asAnalyzer) {
         List<String> attributes = new ArrayList<>();
         String className = component.getClass().getSimpleName();
 
@@ -117,12 +297,16 @@ public class StrategyRunner {
         }
 
         if (component instanceof FeedbackHandler analyzer) {
-            analyzers.add(analyzer);
+            if (asAnalyzer) {
+                analyzers.add(analyzer);
+                scheduler = null;
+            }
             attributes.add("Analyzer");
         }
 
         if (component instanceof Pruner pruner) {
             pruners.add(pruner);
+            pruneTimers.add(statistics.getMetrics().timer(className + ".prune<Pruner>"));
             attributes.add("Pruner");
         }
 
@@ -136,7 +320,6 @@ public class StrategyRunner {
                 : className + "(" + String.join(", ", attributes) + ")";
 
         componentNames.add(name);
-        return this;
     }
 
     public void setOutputDir(Path outputDir) {
@@ -159,6 +342,27 @@ public class StrategyRunner {
         return contextName;
     }
 
+    public Path getReportDir() {
+        if (outputDir == null) {
+            return null;
+        }
+
+        return outputDir
+                .resolve(contextName)
+                .resolve(Env.getEnv(Env.Keys.OUTPUT_TAG));
+    }
+
+    public void exportModel(Path file) throws IOException {
+        StoreSnapshot.of(store).write(file);
+    }
+
+    /** Share the learned model with the tests that run after this one. */
+    public void publishKnowledge() {
+        if (suiteKnowledge != null) {
+            suiteKnowledge.publish(StoreSnapshot.of(store));
+        }
+    }
+
     public boolean hasGenerators() {
         return generator != null;
     }
@@ -179,9 +383,28 @@ public class StrategyRunner {
         return componentNames;
     }
 
+    public Map<String, ComponentAttribution> getAttributions() {
+        return attributions;
+    }
+
     public TrackedFaultload nextFaultload() {
         Faultload faultload = getNextFaultload();
 
+        // Feed back results of a previous run, without running the test again
+        while (faultload != null && resumeEntries.containsKey(faultload.faultSet())) {
+            // Replaying updates the store
+            awaitAnalysis();
+            unconfirmed = null;
+            replay(resumeEntries.remove(faultload.faultSet()));
+
+            // Replayed results do not count towards the test case limit
+            if (testCasesLeft >= 0 && !faultload.faultSet().isEmpty()) {
+                testCasesLeft++;
+            }
+
+            faultload = getNextFaultload();
+        }
+
         if (faultload == null) {
             return null;
         }
@@ -218,7 +441,12 @@ public class StrategyRunner {
             }
         }
 
-        Faultload faultload = generateAndPruneTillNext();
+        Faultload faultload = takeSpeculative();
+
+        if (faultload == null) {
+            awaitAnalysis();
+            faultload = generateAndPruneTillNext();
+        }
 
         if (faultload == null) {
             logger.info("No new faultload generated, stopping!");
@@ -228,6 +456,29 @@ public class StrategyRunner {
         return faultload;
     }
 
+    private Faultload takeSpeculative() {
+        Faultload next = speculative;
+        speculative = null;
+
+        if (next == null) {
+            return null;
+        }
+
+        // Do not wait for the analysis, the faultload is checked after it ran
+        if (pendingAnalysis != null) {
+            unconfirmed = next;
+            return next;
+        }
+
+        // The analysis of the previous result might have made it redundant
+        if (prune(next) != PruneDecision.KEEP) {
+            logger.info("Speculated faultload is redundant after analysis, generating another");
+            return null;
+        }
+
+        return next;
+    }
+
     private TrackedFaultload toTracked(Faultload faultload) {
         // Wrap the faultload in a tracked faultload
         // And prepare its properties
@@ -298,10 +549,23 @@ public class StrategyRunner {
         }
 
         logger.info("Generated {} and pruned {} faultloads", generateCount, pruneCount);
+        publishStoreSizes();
         return next;
     }
 
+    /** Publish the sizes of the store, for readers on other threads */
+    private void publishStoreSizes() {
+        long frontier = generator instanceof DynamicExplorationGenerator gen ? gen.getQueuSize() : 0;
+        statistics.publishStoreSizes(store, frontier);
+    }
+
     public void registerTime(TrackedFaultload faultload) {
+        if (pendingAnalysis != null) {
+            // Include the timings of the background analysis
+            pendingAnalysis = pendingAnalysis.whenComplete((x, e) -> statistics.registerTime(faultload.timer));
+            return;
+        }
+
         statistics.registerTime(faultload.timer);
     }
 
@@ -309,30 +573,238 @@ public class StrategyRunner {
         statistics.registerTime(timer);
     }
 
+    private void replay(StrategyCheckpoint.Entry entry) {
+        FaultloadResult result = entry.asResult();
+        logger.info("Resuming from checkpoint: " + result.trackedFaultload.getFaultload().readableString());
+
+        statistics.registerRun();
+        result.trackedFaultload.timer.start("StrategyRunner.replay");
+        // Only copy the result when we are writing to a different checkpoint
+        boolean record = checkpoint != null && !checkpoint.getFile().equals(resumeFile);
+        handleResult(result, record);
+        result.trackedFaultload.timer.stop("StrategyRunner.replay");
+        registerTime(result.trackedFaultload);
+    }
+
     public void handleResult(FaultloadResult result) {
+        handleResult(result, true);
+    }
+
+    /**
+     * Handle the result of a test. With pipelined analysis, the result is
+     * analyzed in the background, while the next faultload is run. Returns
+     * false if the result was dropped, because the faultload was handed out
+     * before the previous analysis finished, and that analysis made it
+     * redundant.
+     */
+    public boolean submitResult(FaultloadResult result) {
+        if (pipelineExecutor == null) {
+            handleResult(result);
+            return true;
+        }
+
+        awaitAnalysis();
+
+        boolean speculated = unconfirmed != null && unconfirmed == result.trackedFaultload.getFaultload();
+        unconfirmed = null;
+
+        if (speculated && prune(result.trackedFaultload.getFaultload()) != PruneDecision.KEEP) {
+            logger.info("Speculated faultload is redundant after analysis, dropping its result");
+            // Dropped results do not count towards the test case limit
+            if (testCasesLeft >= 0) {
+                testCasesLeft++;
+            }
+            return false;
+        }
+
+        if (!acceptResult(result, true)) {
+            return true;
+        }
+
+        // Pick the next faultload based on what we knew before this result.
+        // The store is not thread-safe, so this happens before the analysis starts.
+        if (!result.isInitial()) {
+            speculative = generateAndPruneTillNext();
+        }
+
+        pendingAnalysis = CompletableFuture.runAsync(() -> analyzeResult(result), pipelineExecutor);
+        return true;
+    }
+
+    /** Wait for the background analysis of the last result, if any. */
+    public void awaitAnalysis() {
+        if (pendingAnalysis == null) {
+            return;
+        }
+
+        try {
+            pendingAnalysis.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new RuntimeException("Analysis failed", e.getCause());
+        } finally {
+            pendingAnalysis = null;
+        }
+    }
+
+    private void handleResult(FaultloadResult result, boolean record) {
+        if (acceptResult(result, record)) {
+            analyzeResult(result);
+        }
+    }
+
+    private boolean acceptResult(FaultloadResult result, boolean record) {
+        if (record && checkpoint != null) {
+            try {
+                checkpoint.append(result);
+            } catch (IOException e) {
+                logger.error("Failed to write checkpoint", e);
+            }
+        }
+
+        if (record && resultLog != null) {
+            try {
+                resultLog.append(result);
+            } catch (IOException e) {
+                logger.error("Failed to write result log", e);
+            }
+        }
+
         store.addHistoricResult(result.trace.getInjectedFaults(), result.trace.getBehaviours());
 
         logger.info("Analyzing result of running faultload with traceId=" + result.trackedFaultload.getTraceId());
 
-        if (!result.passed) {
+        if (!result.passed && resultLog != null) {
+            // Failures are read back from the log when reporting
+            statistics.countFailure();
+        } else if (!result.passed) {
             statistics.reportFailure(result);
         }
 
         if (!result.passed && withStopOnError) {
             logger.error("Test case failed, stopping the test suite.");
             stopDueToError = true;
-            return;
+            return false;
         }
 
         if (result.isInitial() && !result.trace.getReportedFaults().isEmpty()) {
             logger.error("The intial happy path should be fault free, but its not! Stopping the test suite.");
             logger.error("Found {}", result.trace.getReportedFaults());
             stopDueToError = true;
-            return;
+            return false;
         }
 
+        return true;
+    }
+
+    private void analyzeResult(FaultloadResult result) {
         // analyze the result
         analyze(result);
+
+        if (result.isInitial() && warmStart != null) {
+            applyWarmStart(warmStart, true);
+            warmStart = null;
+        }
+
+        if (result.isInitial() && suiteKnowledge != null) {
+            for (var snapshot : suiteKnowledge.getSnapshots()) {
+                // The outcome of a faultload differs per test, so shared
+                // results only inform the pruners
+                applyWarmStart(snapshot.reroot(store.getHappyPath()), false);
+            }
+        }
+
+        publishStoreSizes();
+    }
+
+    private void applyWarmStart(StoreSnapshot snapshot, boolean reuseResults) {
+        Set<FaultUid> stable = snapshot.getStableSubtrees(store.getHappyPath());
+        logger.info("Warm start: {} of {} happy path points are unchanged", stable.size(),
+                store.getHappyPath().size());
+
+        FeedbackContext context = new FeedbackContextProvider(this, StoreSnapshot.class);
+
+        for (var effect : snapshot.downstreamRequests()) {
+            if (stable.contains(effect.cause())) {
+                context.reportUpstreamEffect(effect.cause(), effect.effects());
+            }
+        }
+
+        for (var effect : snapshot.upstreamResponses()) {
+            if (stable.contains(effect.effect().uid())) {
+                context.reportDownstreamEffect(effect.causes(), effect.effect());
+            }
+        }
+
+        for (var inclusion : snapshot.inclusions()) {
+            var uids = Sets.plus(Behaviour.getFaultUids(inclusion.causes()), inclusion.effect());
+            if (StoreSnapshot.isCovered(stable, uids)) {
+                context.reportPreconditionOfFaultUid(inclusion.causes(), inclusion.effect());
+            }
+        }
+
+        for (var exclusion : snapshot.exclusions()) {
+            var uids = Sets.plus(Behaviour.getFaultUids(exclusion.causes()), exclusion.effect());
+            if (StoreSnapshot.isCovered(stable, uids)) {
+                context.reportExclusionOfFaultUid(exclusion.causes(), exclusion.effect());
+            }
+        }
+
+        for (var subset : snapshot.redundantUidSubsets()) {
+            if (StoreSnapshot.isCovered(stable, subset)) {
+                context.pruneFaultUidSubset(subset);
+            }
+        }
+
+        for (var subset : snapshot.redundantFaultSubsets()) {
+            if (StoreSnapshot.isCovered(stable, Faultload.getFaultUids(subset))) {
+                context.pruneFaultSubset(subset);
+            }
+        }
+
+        for (var faultload : snapshot.redundantFaultloads()) {
+            if (StoreSnapshot.isCovered(stable, Faultload.getFaultUids(faultload))) {
+                store.pruneFaultload(faultload);
+            }
+        }
+
+        // Faultloads in unchanged subtrees are not executed again, but their
+        // results are kept and the search continues from them
+        int reused = 0;
+        for (var result : snapshot.results()) {
+            if (!StoreSnapshot.isCovered(stable, Faultload.getFaultUids(result.faults()))) {
+                continue;
+            }
+
+            if (!reuseResults) {
+                store.addHistoricResult(result.faults(), result.behaviours());
+                continue;
+            }
+
+            List<FaultUid> observed = result.behaviours().stream()
+                    .map(Behaviour::uid)
+                    .filter(uid -> StoreSnapshot.isCovered(stable, Set.of(uid)))
+                    .toList();
+
+            for (var uid : observed) {
+                context.reportFaultUid(uid);
+            }
+
+            store.addHistoricResult(result.faults(), result.behaviours());
+            store.pruneFaultload(result.faults());
+
+            if (generator instanceof DynamicExplorationGenerator gen) {
+                gen.expandFrom(List.copyOf(result.faults()), observed);
+            }
+
+            reused++;
+        }
+
+        logger.info("Warm start: reused {} of {} earlier results", reused, snapshot.results().size());
+        statistics.incrementPruner(StoreSnapshot.class.getSimpleName(), reused);
     }
 
     public Faultload generate() {
@@ -340,7 +812,16 @@ public class StrategyRunner {
             throw new RuntimeException("[Strategy] No generators are available, make sure to register at least one!");
         }
 
+        var event = new GenerateEvent();
+        event.begin();
         var generated = generator.generate();
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.generator = generator.getClass().getSimpleName();
+            event.faultloadSize = generated == null ? -1 : generated.size();
+            event.commit();
+        }
 
         if (generated != null) {
             statistics.incrementGenerator("Generated", 1);
@@ -352,16 +833,36 @@ public class StrategyRunner {
     public void analyze(FaultloadResult result) {
         result.trackedFaultload.timer.start("StrategyRunner.analyze");
 
-        for (var analyzer : analyzers) {
+        if (scheduler == null) {
+            scheduler = new AnalysisScheduler(analyzers);
+        }
+
+        Executor executor = analysisExecutor == null ? Runnable::run : analysisExecutor;
+        scheduler.run(executor, analyzer -> {
             String name = analyzer.getClass().getSimpleName();
             String tag = name + ".handleFeedback<Analyzer>";
+            var event = new AnalyzeEvent();
+            event.begin();
             result.trackedFaultload.timer.start(tag);
 
-            FeedbackContext context = new FeedbackContextProvider(this, analyzer.getClass());
-            analyzer.handleFeedback(result, context);
+            if (analyzer instanceof FanOutVisitor fanOut) {
+                // Attribute feedback to the visitors, not the pass
+                fanOut.handleFeedback(result, visitor -> new FeedbackContextProvider(this, visitor.getClass()));
+            } else {
+                FeedbackContext context = new FeedbackContextProvider(this, analyzer.getClass());
+                analyzer.handleFeedback(result, context);
+            }
 
             result.trackedFaultload.timer.stop(tag);
-        }
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.component = name;
+                event.traceId = result.trackedFaultload.getTraceId();
+                event.faultloadSize = result.trackedFaultload.size();
+                event.commit();
+            }
+        });
 
         result.trackedFaultload.timer.stop("StrategyRunner.analyze");
     }
@@ -376,15 +877,23 @@ public class StrategyRunner {
         // the pruners of the most impactfull class
         Set<Pruner> attributed = new LinkedHashSet<>();
 
-        for (Pruner pruner : pruners) {
-            TaggedTimer pruneTimer = new TaggedTimer();
-            String name = pruner.getClass().getSimpleName();
-            String tag = name + ".prune<Pruner>";
-            pruneTimer.start(tag);
+        for (int i = 0; i < pruners.size(); i++) {
+            Pruner pruner = pruners.get(i);
+            MetricsRegistry.Timer pruneTimer = pruneTimers.get(i);
+            var event = new PruneEvent();
+            event.begin();
+            long start = pruneTimer.start();
             PruneContextProvider context = new PruneContextProvider(this, pruner.getClass());
             PruneDecision decision = pruner.prune(faultload, context);
-            pruneTimer.stop(tag);
-            statistics.registerTime(pruneTimer);
+            pruneTimer.stop(start);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.pruner = pruner.getClass().getSimpleName();
+                event.decision = decision.name();
+                event.faultloadSize = faultload.size();
+                event.commit();
+            }
             switch (decision) {
                 case PRUNE -> {
                     if (pruneDecision == PruneDecision.KEEP) {
@@ -2,46 +2,62 @@ package dev.reynard.junit.strategy;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import dev.reynard.junit.strategy.util.Pair;
+import dev.reynard.junit.strategy.store.DynamicAnalysisStore;
+import dev.reynard.junit.strategy.util.Env;
+import dev.reynard.junit.util.MetricsRegistry;
 import dev.reynard.junit.util.TaggedTimer;
 
 public class StrategyStatistics {
     private Map<String, Long> generatorCount = new LinkedHashMap<>();
     private Map<String, Long> prunerCount = new LinkedHashMap<>();
-    private List<Pair<String, Long>> timings = new ArrayList<>();
     private List<FaultloadResult> failures = new ArrayList<>();
-    private Set<String> tags = new LinkedHashSet<>();
     private StrategyRunner runner;
 
-    private long totalRun = 0;
+    private final MetricsRegistry metrics = new MetricsRegistry()
+            .withSampling(Env.getEnvBool(Env.Keys.SAMPLE_TIMINGS))
+            .withValues(Env.getEnvBool(Env.Keys.TIMING_VALUES));
+    private final MetricsRegistry.Counter totalRun = metrics.counter("runs");
+    private final MetricsRegistry.Counter totalGenerated = metrics.counter("generated");
+    private final MetricsRegistry.Counter totalPruned = metrics.counter("prune_invocations");
+    private final MetricsRegistry.Counter totalFailures = metrics.counter("failures");
+    // Sizes of the store and frontier, published by the strategy for other threads
+    private final MetricsRegistry.Gauge frontierSize = metrics.gauge("frontier_size");
+    private final MetricsRegistry.Gauge pointCount = metrics.gauge("store_points");
+    private final MetricsRegistry.Gauge redundantFaultloads = metrics.gauge("store_redundant_faultloads");
+    private final MetricsRegistry.Gauge redundantUidSubsets = metrics.gauge("store_redundant_uid_subsets");
+    private final MetricsRegistry.Gauge redundantFaultSubsets = metrics.gauge("store_redundant_fault_subsets");
+    private final MetricsRegistry.Gauge historicResults = metrics.gauge("store_historic_results");
+
     private long totalSize = 0;
-    private long totalGenerated = 0;
-    private long totalPruned = 0;
 
     public StrategyStatistics(StrategyRunner runner) {
         this.runner = runner;
     }
 
-    public void incrementGenerator(String generator, long count) {
+    public synchronized void incrementGenerator(String generator, long count) {
         generatorCount.put(generator, generatorCount.getOrDefault(generator, 0L) + count);
-        totalGenerated += count;
+        totalGenerated.increment(count);
     }
 
-    public void incrementPruner(String pruner, long count) {
+    public synchronized void incrementPruner(String pruner, long count) {
         prunerCount.put(pruner, prunerCount.getOrDefault(pruner, 0L) + count);
     }
 
     public void incrementPruned(long count) {
-        totalPruned += count;
+        totalPruned.increment(count);
     }
 
-    public void reportFailure(FaultloadResult f) {
+    public synchronized void reportFailure(FaultloadResult f) {
         failures.add(f);
+        totalFailures.increment(1);
+    }
+
+    /** Count a failure that is kept elsewhere, such as the result log */
+    public void countFailure() {
+        totalFailures.increment(1);
     }
 
     public void setSize(long size) {
@@ -50,13 +66,25 @@ public class StrategyStatistics {
 
     public void registerTime(TaggedTimer timer) {
         for (var entry : timer.getTimingsNs()) {
-            timings.add(entry);
-            tags.add(entry.first());
+            metrics.timer(entry.first()).record(entry.second());
         }
     }
 
     public void registerRun() {
-        totalRun++;
+        totalRun.increment(1);
+    }
+
+    /**
+     * Publish the current sizes of the store. Must be called by the thread that
+     * updates the store, while no other thread does.
+     */
+    public void publishStoreSizes(DynamicAnalysisStore store, long frontier) {
+        frontierSize.set(frontier);
+        pointCount.set(store.getPoints().size());
+        redundantFaultloads.set(store.getRedundantFaultloads().size());
+        redundantUidSubsets.set(store.getRedundantUidSubsets().size());
+        redundantFaultSubsets.set(store.getRedundantFaultSubsets().size());
+        historicResults.set(store.getHistoricResults().size());
     }
 
     // ---- Helper functions for reporting ----
@@ -68,16 +96,36 @@ public class StrategyStatistics {
         return prunerCount;
     }
 
-    public List<Pair<String, Long>> getTimings() {
-        return timings;
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    public long getFrontierSize() {
+        return frontierSize.get();
+    }
+
+    public long getPointCount() {
+        return pointCount.get();
     }
 
-    public Set<String> getTags() {
-        return tags;
+    public long getRedundantFaultloadCount() {
+        return redundantFaultloads.get();
+    }
+
+    public long getRedundantUidSubsetCount() {
+        return redundantUidSubsets.get();
+    }
+
+    public long getRedundantFaultSubsetCount() {
+        return redundantFaultSubsets.get();
+    }
+
+    public long getHistoricResultCount() {
+        return historicResults.get();
     }
 
     public long getTotalRun() {
-        return totalRun;
+        return totalRun.get();
     }
 
     public long getTotalSize() {
@@ -85,17 +133,21 @@ public class StrategyStatistics {
     }
 
     public long getTotalGenerated() {
-        return totalGenerated;
+        return totalGenerated.get();
     }
 
     public long getTotalPruned() {
-        return totalPruned;
+        return totalPruned.get();
     }
 
     public List<FaultloadResult> getFailures() {
         return failures;
     }
 
+    public long getTotalFailures() {
+        return totalFailures.get();
+    }
+
     public void report() {
         var reporter = new StrategyReporter(runner);
         reporter.report();
@@ -104,11 +156,8 @@ public class StrategyStatistics {
     public void reset() {
         generatorCount.clear();
         prunerCount.clear();
-        timings.clear();
-        tags.clear();
-        totalRun = 0;
+        failures.clear();
+        metrics.reset();
         totalSize = 0;
-        totalGenerated = 0;
-        totalPruned = 0;
     }
 }
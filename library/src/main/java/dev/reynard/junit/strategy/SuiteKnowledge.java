@@ -0,0 +1,24 @@
+package dev.reynard.junit.strategy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import dev.reynard.junit.strategy.store.StoreSnapshot;
+
+/**
+ * Learned models shared between the tests of a suite. Every test publishes
+ * its model when it finishes, and a later test reuses the facts about the
+ * subtrees of the system it shares with an earlier one, see
+ * {@link StoreSnapshot#reroot}.
+ */
+public class SuiteKnowledge {
+    private final List<StoreSnapshot> snapshots = new CopyOnWriteArrayList<>();
+
+    public void publish(StoreSnapshot snapshot) {
+        snapshots.add(snapshot);
+    }
+
+    public List<StoreSnapshot> getSnapshots() {
+        return List.copyOf(snapshots);
+    }
+}
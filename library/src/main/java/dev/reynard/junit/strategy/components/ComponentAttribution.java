@@ -0,0 +1,119 @@
+package dev.reynard.junit.strategy.components;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.strategy.components.generators.Generator;
+import dev.reynard.junit.strategy.util.SpaceEstimate;
+import dev.reynard.junit.strategy.util.StringFormat;
+
+/**
+ * Tracks what a single component contributed to the shared store. Only
+ * counters are kept, plus references to the redundant subsets that were new
+ * to the shared store (these are the same objects, not copies).
+ */
+public class ComponentAttribution {
+    public static final String FAULT_UIDS = "Fault points";
+    public static final String HAPPY_PATHS = "Happy paths";
+    public static final String DOWNSTREAM_REQUESTS = "Downstream requests";
+    public static final String UPSTREAM_RESPONSES = "Upstream responses";
+    public static final String INCLUSIONS = "Inclusions";
+    public static final String EXCLUSIONS = "Exclusions";
+    public static final String EXPLORATIONS = "Explorations";
+
+    private final Map<String, Long> reported = new LinkedHashMap<>();
+    private final Map<String, Long> novel = new LinkedHashMap<>();
+
+    private final List<Set<Fault>> faultSubsets = new ArrayList<>();
+    private final List<Set<FaultUid>> uidSubsets = new ArrayList<>();
+
+    public synchronized boolean record(String kind, boolean isNew) {
+        reported.merge(kind, 1L, Long::sum);
+        if (isNew) {
+            novel.merge(kind, 1L, Long::sum);
+        }
+        return isNew;
+    }
+
+    public synchronized boolean recordFaultSubset(Set<Fault> subset, boolean isNew) {
+        if (isNew) {
+            faultSubsets.add(subset);
+        }
+        return isNew;
+    }
+
+    public synchronized boolean recordFaultUidSubset(Set<FaultUid> subset, boolean isNew) {
+        if (isNew) {
+            uidSubsets.add(subset);
+        }
+        return isNew;
+    }
+
+    public synchronized long getReported(String kind) {
+        return reported.getOrDefault(kind, 0L);
+    }
+
+    public synchronized long getNovel(String kind) {
+        return novel.getOrDefault(kind, 0L);
+    }
+
+    public synchronized List<Set<Fault>> getFaultSubsets() {
+        return List.copyOf(faultSubsets);
+    }
+
+    public synchronized List<Set<FaultUid>> getFaultUidSubsets() {
+        return List.copyOf(uidSubsets);
+    }
+
+    private static <X> Map<Integer, Integer> getDistribution(List<Set<X>> subsets) {
+        Map<Integer, Integer> sizeCount = new TreeMap<>();
+        for (var subset : subsets) {
+            sizeCount.merge(subset.size(), 1, Integer::sum);
+        }
+        return sizeCount;
+    }
+
+    public synchronized Map<String, Object> getReport(Generator generator) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        boolean hasImpact = false;
+
+        if (!faultSubsets.isEmpty()) {
+            hasImpact = true;
+            report.put("Fault subsets pruned", faultSubsets.size() + "");
+            for (var entry : getDistribution(faultSubsets).entrySet()) {
+                report.put("Fault subsets of size " + entry.getKey(), entry.getValue() + "");
+            }
+        }
+
+        if (!uidSubsets.isEmpty()) {
+            hasImpact = true;
+            report.put("Fault points subsets pruned", uidSubsets.size() + "");
+            for (var entry : getDistribution(uidSubsets).entrySet()) {
+                report.put("Fault points subsets of size " + entry.getKey(), entry.getValue() + "");
+            }
+        }
+
+        for (var entry : reported.entrySet()) {
+            long isNew = novel.getOrDefault(entry.getKey(), 0L);
+            report.put(entry.getKey(), isNew + " new (" + entry.getValue() + " reported)");
+        }
+
+        if (hasImpact) {
+            Set<FaultUid> points = Set.copyOf(generator.getFaultInjectionPoints());
+            long modeCount = generator.getFailureModes().size();
+            long estimateValue = SpaceEstimate.estimatePointSubsetsImpact(points, uidSubsets, modeCount)
+                    + SpaceEstimate.estimateFaultSubsetsImpact(points, faultSubsets, modeCount);
+            long totalSize = generator.spaceSize();
+            report.put("Indirectly pruned", estimateValue + " ("
+                    + StringFormat.asPercentage(estimateValue, totalSize) + "% estimate of space)");
+        }
+
+        return report;
+    }
+}
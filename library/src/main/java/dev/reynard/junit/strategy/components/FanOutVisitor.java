@@ -0,0 +1,100 @@
+package dev.reynard.junit.strategy.components;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+
+/**
+ * Visits each report of a result once, and calls all visitors for it in the
+ * order they were given. The visitors are scheduled as a single handler, with
+ * the strongest store access of its members. It is up to the caller to only
+ * combine visitors that do not depend on each other's writes for the same
+ * result. Store readers cannot be combined with store writers, as the group
+ * would no longer run after all other writers. Combining trace-only visitors
+ * with store readers is allowed, but they then also wait for all writers.
+ */
+public class FanOutVisitor implements FeedbackHandler {
+    private final List<ReportVisitor> visitors;
+
+    public FanOutVisitor(ReportVisitor... visitors) {
+        this.visitors = List.of(visitors);
+
+        boolean reads = this.visitors.stream().anyMatch(x -> x.getStoreAccess() == StoreAccess.STORE_READ);
+        boolean writes = this.visitors.stream().anyMatch(x -> x.getStoreAccess() == StoreAccess.STORE_WRITE);
+        if (reads && writes) {
+            throw new IllegalArgumentException("Cannot combine store readers and store writers in a single visit");
+        }
+    }
+
+    public List<ReportVisitor> getVisitors() {
+        return visitors;
+    }
+
+    public boolean provides(Class<?> clazz) {
+        for (var visitor : visitors) {
+            if (clazz.isInstance(visitor)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public StoreAccess getStoreAccess() {
+        StoreAccess access = StoreAccess.TRACE_ONLY;
+        for (var visitor : visitors) {
+            if (visitor.getStoreAccess().compareTo(access) > 0) {
+                access = visitor.getStoreAccess();
+            }
+        }
+        return access;
+    }
+
+    @Override
+    public List<Class<? extends FeedbackHandler>> getDependencies() {
+        Set<Class<? extends FeedbackHandler>> dependencies = new LinkedHashSet<>();
+        for (var visitor : visitors) {
+            for (var dependency : visitor.getDependencies()) {
+                if (!provides(dependency)) {
+                    dependencies.add(dependency);
+                }
+            }
+        }
+        return List.copyOf(dependencies);
+    }
+
+    @Override
+    public void handleFeedback(FaultloadResult result, FeedbackContext context) {
+        handleFeedback(result, visitor -> context);
+    }
+
+    /** Handle feedback, with a separate context per visitor */
+    public void handleFeedback(FaultloadResult result, Function<ReportVisitor, FeedbackContext> contexts) {
+        List<ReportVisitor> active = new ArrayList<>();
+        List<FeedbackContext> activeContexts = new ArrayList<>();
+
+        for (var visitor : visitors) {
+            FeedbackContext context = contexts.apply(visitor);
+            if (visitor.startVisit(result, context)) {
+                active.add(visitor);
+                activeContexts.add(context);
+            }
+        }
+
+        if (active.isEmpty()) {
+            return;
+        }
+
+        result.trace.traverseReports(TraversalOrder.BREADTH_FIRST, true, report -> {
+            for (int i = 0; i < active.size(); i++) {
+                active.get(i).visitReport(report, result, activeContexts.get(i));
+            }
+        });
+    }
+}
@@ -13,7 +13,7 @@ import dev.reynard.junit.strategy.util.Sets;
 
 public abstract class FeedbackContext extends PruneContext {
 
-    public abstract void reportFaultUid(FaultUid faultInjectionPoint);
+    public abstract boolean reportFaultUid(FaultUid faultInjectionPoint);
 
     public void reportFaultUids(List<FaultUid> faultInjectionPoints) {
         for (var f : faultInjectionPoints) {
@@ -29,15 +29,15 @@ public abstract class FeedbackContext extends PruneContext {
 
     public abstract boolean reportDownstreamEffect(Collection<Behaviour> condition, Behaviour effect);
 
-    public abstract void reportHappyPath(TraceReport report);
+    public abstract boolean reportHappyPath(TraceReport report);
 
     public abstract boolean exploreFrom(Collection<Fault> startingNode);
 
-    public abstract void pruneFaultUidSubset(Set<FaultUid> subset);
+    public abstract boolean pruneFaultUidSubset(Set<FaultUid> subset);
 
-    public abstract void pruneFaultSubset(Set<Fault> subset);
+    public abstract boolean pruneFaultSubset(Set<Fault> subset);
 
-    public abstract void pruneFaultload(Faultload faultload);
+    public abstract boolean pruneFaultload(Faultload faultload);
 
     public void pruneExploration(Set<Fault> faultload, Set<FaultUid> explorations) {
         for (var ext : Fault.allFaults(explorations, getFailureModes())) {
@@ -1,8 +1,6 @@
 package dev.reynard.junit.strategy.components;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -14,23 +12,19 @@ import dev.reynard.junit.faultload.Faultload;
 import dev.reynard.junit.faultload.modes.FailureMode;
 import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
 import dev.reynard.junit.strategy.StrategyRunner;
-import dev.reynard.junit.strategy.components.generators.Generator;
-import dev.reynard.junit.strategy.store.DynamicAnalysisStore;
 import dev.reynard.junit.strategy.util.Pair;
-import dev.reynard.junit.strategy.util.StringFormat;
 
 public class FeedbackContextProvider extends FeedbackContext {
 
     private final StrategyRunner runner;
-    private final DynamicAnalysisStore localStore;
-
-    private final static Map<String, DynamicAnalysisStore> stores = new HashMap<>();
+    private final ComponentAttribution attribution;
 
     public FeedbackContextProvider(StrategyRunner runner, Class<?> clazz) {
         this.runner = runner;
         assertGeneratorPresent();
-        this.localStore = stores.computeIfAbsent(clazz.getSimpleName(),
-                k -> new DynamicAnalysisStore(runner.getGenerator().getFailureModes(), true));
+        // Attribution is scoped to the runner, so runners can explore in parallel
+        this.attribution = runner.getAttributions().computeIfAbsent(clazz.getSimpleName(),
+                k -> new ComponentAttribution());
     }
 
     private void assertGeneratorPresent() {
@@ -50,125 +44,64 @@ public class FeedbackContextProvider extends FeedbackContext {
     }
 
     @Override
-    public void reportFaultUid(FaultUid faultInjectionPoint) {
-        localStore.addFaultUid(faultInjectionPoint);
-        runner.getGenerator().reportFaultUid(faultInjectionPoint);
+    public boolean reportFaultUid(FaultUid faultInjectionPoint) {
+        return attribution.record(ComponentAttribution.FAULT_UIDS,
+                runner.getGenerator().reportFaultUid(faultInjectionPoint));
     }
 
     @Override
     public boolean reportUpstreamEffect(FaultUid cause, Collection<FaultUid> effect) {
-        localStore.addUpstreamEffect(cause, effect);
-        return runner.getGenerator().reportUpstreamEffect(cause, effect);
+        return attribution.record(ComponentAttribution.DOWNSTREAM_REQUESTS,
+                runner.getGenerator().reportUpstreamEffect(cause, effect));
     }
 
     @Override
     public boolean reportDownstreamEffect(Collection<Behaviour> condition, Behaviour effect) {
-        localStore.addDownstreamEffect(condition, effect);
-        return runner.getGenerator().reportDownstreamEffect(condition, effect);
+        return attribution.record(ComponentAttribution.UPSTREAM_RESPONSES,
+                runner.getGenerator().reportDownstreamEffect(condition, effect));
     }
 
     @Override
     public boolean reportPreconditionOfFaultUid(Collection<Behaviour> condition, FaultUid fid) {
-        localStore.addConditionForFaultUid(condition, fid);
-        return runner.getGenerator().reportPreconditionOfFaultUid(condition, fid);
+        return attribution.record(ComponentAttribution.INCLUSIONS,
+                runner.getGenerator().reportPreconditionOfFaultUid(condition, fid));
     }
 
     @Override
     public boolean reportExclusionOfFaultUid(Collection<Behaviour> condition, FaultUid fid) {
-        localStore.addExclusionForFaultUid(condition, fid);
-        return runner.getGenerator().reportExclusionOfFaultUid(condition, fid);
+        return attribution.record(ComponentAttribution.EXCLUSIONS,
+                runner.getGenerator().reportExclusionOfFaultUid(condition, fid));
     }
 
     @Override
     public boolean exploreFrom(Collection<Fault> startingNode) {
-        return runner.getGenerator().exploreFrom(startingNode);
+        return attribution.record(ComponentAttribution.EXPLORATIONS,
+                runner.getGenerator().exploreFrom(startingNode));
     }
 
     @Override
-    public void pruneFaultUidSubset(Set<FaultUid> subset) {
-        localStore.pruneFaultUidSubset(subset);
-        runner.getGenerator().pruneFaultUidSubset(subset);
+    public boolean pruneFaultUidSubset(Set<FaultUid> subset) {
+        return attribution.recordFaultUidSubset(subset, runner.getGenerator().pruneFaultUidSubset(subset));
     }
 
     @Override
-    public void pruneFaultSubset(Set<Fault> subset) {
-        localStore.pruneFaultSubset(subset);
-        runner.getGenerator().pruneFaultSubset(subset);
+    public boolean pruneFaultSubset(Set<Fault> subset) {
+        return attribution.recordFaultSubset(subset, runner.getGenerator().pruneFaultSubset(subset));
     }
 
     @Override
-    public void pruneFaultload(Faultload fautload) {
-        localStore.pruneFaultload(fautload);
-        runner.getGenerator().pruneFaultload(fautload);
-    }
-
-    public static Set<String> getContextNames() {
-        return stores.keySet();
-    }
-
-    public static Map<String, DynamicAnalysisStore> getStores() {
-        return stores;
-    }
-
-    public static boolean hasContext(String contextName) {
-        return stores.containsKey(contextName);
-    }
-
-    private static <X> Map<Integer, Integer> getDistribution(List<Set<X>> subsets) {
-        Map<Integer, Integer> sizeCount = new HashMap<>();
-        for (var subset : subsets) {
-            int size = subset.size();
-            sizeCount.put(size, sizeCount.getOrDefault(size, 0) + 1);
-        }
-        return sizeCount;
+    public boolean pruneFaultload(Faultload fautload) {
+        // Pruning a faultload prunes it as a fault subset
+        return attribution.recordFaultSubset(fautload.faultSet(), runner.getGenerator().pruneFaultload(fautload));
     }
 
-    public static Map<String, Object> getReport(String contextName, Generator generator) {
-        if (!hasContext(contextName)) {
+    public static Map<String, Object> getReport(StrategyRunner runner, String contextName) {
+        ComponentAttribution attribution = runner.getAttributions().get(contextName);
+        if (attribution == null) {
             return null;
         }
 
-        Map<String, Object> report = new LinkedHashMap<>();
-        DynamicAnalysisStore store = stores.get(contextName);
-        boolean hasImpact = false;
-
-        var redundantFaultloads = store.getRedundantFaultloads();
-        if (!redundantFaultloads.isEmpty()) {
-            hasImpact = true;
-            report.put("Faultloads pruned", redundantFaultloads.size() + "");
-        }
-
-        var redundantFaultSubsets = store.getRedundantFaultSubsets();
-        if (!redundantFaultSubsets.isEmpty()) {
-            hasImpact = true;
-            report.put("Fault subsets pruned", redundantFaultSubsets.size() + "");
-            var sizeCount = getDistribution(redundantFaultSubsets);
-            for (var entry : sizeCount.entrySet()) {
-                report.put("Fault subsets of size " + entry.getKey(), entry.getValue() + "");
-            }
-        }
-
-        var redundantUidSubsets = store.getRedundantUidSubsets();
-        if (!redundantUidSubsets.isEmpty()) {
-            hasImpact = true;
-            report.put("Fault points subsets pruned", redundantUidSubsets.size() + "");
-            var sizeCount = getDistribution(redundantUidSubsets);
-            for (var entry : sizeCount.entrySet()) {
-                report.put("Fault points subsets of size " + entry.getKey(), entry.getValue() + "");
-            }
-        }
-
-        report.putAll(store.getImplicationsReport());
-
-        if (hasImpact) {
-            List<FaultUid> points = generator.getFaultInjectionPoints();
-            long totalSize = generator.spaceSize();
-            long estimateValue = store.estimatePruned(points);
-            report.put("Indirectly pruned", estimateValue + " ("
-                    + StringFormat.asPercentage(estimateValue, totalSize) + "% estimate of space)");
-        }
-
-        return report;
+        return attribution.getReport(runner.getGenerator());
     }
 
     @Override
@@ -192,9 +125,8 @@ public class FeedbackContextProvider extends FeedbackContext {
     }
 
     @Override
-    public void reportHappyPath(TraceReport report) {
-        localStore.addHappyPath(report.injectionPoint, report);
-        runner.getGenerator().reportHappyPath(report);
+    public boolean reportHappyPath(TraceReport report) {
+        return attribution.record(ComponentAttribution.HAPPY_PATHS, runner.getGenerator().reportHappyPath(report));
     }
 
     @Override
@@ -1,7 +1,22 @@
 package dev.reynard.junit.strategy.components;
 
+import java.util.List;
+
 import dev.reynard.junit.strategy.FaultloadResult;
 
 public interface FeedbackHandler {
     public void handleFeedback(FaultloadResult result, FeedbackContext context);
+
+    /**
+     * What the handler accesses while handling feedback. Handlers that do not
+     * declare this are assumed to write to the store.
+     */
+    public default StoreAccess getStoreAccess() {
+        return StoreAccess.STORE_WRITE;
+    }
+
+    /** Handlers that must have handled the same result before this one */
+    public default List<Class<? extends FeedbackHandler>> getDependencies() {
+        return List.of();
+    }
 }
@@ -11,14 +11,16 @@ import dev.reynard.junit.faultload.modes.FailureMode;
 import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
 import dev.reynard.junit.strategy.StrategyRunner;
 import dev.reynard.junit.strategy.util.Pair;
-import dev.reynard.junit.util.TaggedTimer;
+import dev.reynard.junit.util.events.ExpectedBehaviourEvent;
 
 public class PruneContextProvider extends PruneContext {
 
     private final StrategyRunner runner;
+    private final Class<?> clazz;
 
     public PruneContextProvider(StrategyRunner runner, Class<?> clazz) {
         this.runner = runner;
+        this.clazz = clazz;
         assertGeneratorPresent();
     }
 
@@ -40,21 +42,43 @@ public class PruneContextProvider extends PruneContext {
 
     @Override
     public Set<Behaviour> getExpectedBehaviours(Set<Fault> faultload) {
-        TaggedTimer timer = new TaggedTimer();
-        timer.start("getExpectedBehaviours");
+        var timer = runner.statistics.getMetrics().timer("getExpectedBehaviours");
+        var event = new ExpectedBehaviourEvent();
+        event.begin();
+        long start = timer.start();
         var res = runner.getGenerator().getExpectedBehaviours(faultload);
-        timer.stop("getExpectedBehaviours");
-        runner.registerTime(timer);
+        timer.stop(start);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.query = "behaviours";
+            event.component = clazz.getSimpleName();
+            event.faultloadSize = faultload.size();
+            event.resultSize = res.size();
+            event.commit();
+        }
+
         return res;
     }
 
     @Override
     public Set<FaultUid> getExpectedPoints(Set<Fault> faultload) {
-        TaggedTimer timer = new TaggedTimer();
-        timer.start("getExpectedPoints");
+        var timer = runner.statistics.getMetrics().timer("getExpectedPoints");
+        var event = new ExpectedBehaviourEvent();
+        event.begin();
+        long start = timer.start();
         var res = runner.getGenerator().getExpectedPoints(faultload);
-        timer.stop("getExpectedPoints");
-        runner.registerTime(timer);
+        timer.stop(start);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.query = "points";
+            event.component = clazz.getSimpleName();
+            event.faultloadSize = faultload.size();
+            event.resultSize = res.size();
+            event.commit();
+        }
+
         return res;
     }
 
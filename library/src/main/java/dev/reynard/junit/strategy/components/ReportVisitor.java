@@ -0,0 +1,30 @@
+package dev.reynard.junit.strategy.components;
+
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+
+/**
+ * A feedback handler that inspects the reports of a result one by one, in
+ * breadth-first order. Visitors can share a single pass over the trace by
+ * combining them in a {@link FanOutVisitor}.
+ */
+public interface ReportVisitor extends FeedbackHandler {
+
+    /** Prepare for a result. Return false to skip visiting its reports. */
+    public default boolean startVisit(FaultloadResult result, FeedbackContext context) {
+        return true;
+    }
+
+    public void visitReport(TraceReport report, FaultloadResult result, FeedbackContext context);
+
+    @Override
+    public default void handleFeedback(FaultloadResult result, FeedbackContext context) {
+        if (!startVisit(result, context)) {
+            return;
+        }
+
+        result.trace.traverseReports(TraversalOrder.BREADTH_FIRST, true,
+                report -> visitReport(report, result, context));
+    }
+}
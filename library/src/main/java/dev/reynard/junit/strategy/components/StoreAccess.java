@@ -0,0 +1,11 @@
+package dev.reynard.junit.strategy.components;
+
+/** How a feedback handler interacts with the shared store */
+public enum StoreAccess {
+    /** Only reads the trace, and its own state */
+    TRACE_ONLY,
+    /** Reads the store, but never changes it */
+    STORE_READ,
+    /** Reports to or prunes in the store */
+    STORE_WRITE;
+}
@@ -0,0 +1,28 @@
+package dev.reynard.junit.strategy.components;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * A reporter that writes its report directly to the output, instead of
+ * building it in memory first. Useful for reports that grow with the run.
+ */
+public interface StreamingReporter extends Reporter {
+    public void writeReport(JsonGenerator generator, PruneContext context) throws IOException;
+
+    @Override
+    default Object report(PruneContext context) {
+        // Only buffered for callers that need the report as an object
+        ObjectMapper mapper = new ObjectMapper();
+        try (TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+            writeReport(buffer, context);
+            return mapper.readValue(buffer.asParser(), Object.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
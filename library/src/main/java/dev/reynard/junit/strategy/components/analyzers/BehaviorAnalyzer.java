@@ -16,15 +16,15 @@ import dev.reynard.junit.faultload.modes.FailureMode;
 import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
 import dev.reynard.junit.strategy.FaultloadResult;
 import dev.reynard.junit.strategy.components.FeedbackContext;
-import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
+import dev.reynard.junit.strategy.components.ReportVisitor;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StoreAccess;
 import dev.reynard.junit.strategy.store.SubsetStore;
 import dev.reynard.junit.strategy.util.Sets;
 import dev.reynard.junit.strategy.util.Simplify;
-import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
 
-public class BehaviorAnalyzer implements FeedbackHandler, Reporter {
+public class BehaviorAnalyzer implements ReportVisitor, Reporter {
     private final Logger logger = LoggerFactory.getLogger(BehaviorAnalyzer.class);
 
     // TODO: equality checks (wrt masks)
@@ -35,17 +35,24 @@ public class BehaviorAnalyzer implements FeedbackHandler, Reporter {
     private List<FailureMode> failureModes;
 
     @Override
-    public void handleFeedback(FaultloadResult result, FeedbackContext context) {
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.STORE_READ;
+    }
+
+    @Override
+    public boolean startVisit(FaultloadResult result, FeedbackContext context) {
         failureModes = context.getFailureModes();
+        return true;
+    }
 
-        result.trace.traverseReports(TraversalOrder.BREADTH_FIRST, true, report -> {
-            if (report.injectedFault != null) {
-                // Not interesting, we caused it ourselves
-                return;
-            }
+    @Override
+    public void visitReport(TraceReport report, FaultloadResult result, FeedbackContext context) {
+        if (report.injectedFault != null) {
+            // Not interesting, we caused it ourselves
+            return;
+        }
 
-            handleReport(report, result, context);
-        });
+        handleReport(report, result, context);
     }
 
     private void handleReport(TraceReport report, FaultloadResult result, FeedbackContext context) {
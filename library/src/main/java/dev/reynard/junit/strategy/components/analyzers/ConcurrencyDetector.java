@@ -11,11 +11,17 @@ import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StoreAccess;
 import dev.reynard.junit.strategy.util.UndirectedRelation;
 
 public class ConcurrencyDetector implements FeedbackHandler, Reporter {
     UndirectedRelation<FaultUid> relation = new UndirectedRelation<>();
 
+    @Override
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.TRACE_ONLY;
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         for (var relation : result.trace.getAllConcurrent().entrySet()) {
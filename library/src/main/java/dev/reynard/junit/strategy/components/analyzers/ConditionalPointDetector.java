@@ -38,6 +38,15 @@ public class ConditionalPointDetector implements FeedbackHandler, Reporter {
         this(false);
     }
 
+    // Relies on the implications of the current result
+    @Override
+    public List<Class<? extends FeedbackHandler>> getDependencies() {
+        return List.of(HappyPathDetector.class,
+                ParentChildDetector.class,
+                HappensBeforeNeighbourDetector.class,
+                ErrorPropagationDetector.class);
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         Set<FaultUid> pointsInTrace = result.trace.getFaultUids();
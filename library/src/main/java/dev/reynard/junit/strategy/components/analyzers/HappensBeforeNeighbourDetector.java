@@ -15,7 +15,7 @@ import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
 import dev.reynard.junit.strategy.FaultloadResult;
 import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
-import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.strategy.components.ReportVisitor;
 
 /**
  * Pruner that prunes faults that are redundant due to cause-effect
@@ -23,52 +23,63 @@ import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
  * I.e. if a fault is injected, and another fault disappears,
  * s set of fault causes the disappearance of the fault (the effect)
  */
-public class HappensBeforeNeighbourDetector implements FeedbackHandler {
+public class HappensBeforeNeighbourDetector implements ReportVisitor {
     private final Logger logger = LoggerFactory.getLogger(HappensBeforeNeighbourDetector.class);
+    // The points expected in the result that is being visited
+    private Set<FaultUid> expectedPoints = Set.of();
 
+    // Relies on the expected points. The calls reported for the same result are
+    // all observed, so it can share a pass with the ParentChildDetector.
     @Override
-    public void handleFeedback(FaultloadResult result, FeedbackContext context) {
+    public List<Class<? extends FeedbackHandler>> getDependencies() {
+        return List.of(ParentChildDetector.class);
+    }
+
+    @Override
+    public boolean startVisit(FaultloadResult result, FeedbackContext context) {
         if (result.isInitial()) {
-            return;
+            return false;
         }
 
         Set<Fault> injectedErrorFaults = result.trace.getInjectedFaults();
-        Set<FaultUid> expectedPoints = context.getExpectedPoints(injectedErrorFaults);
+        expectedPoints = context.getExpectedPoints(injectedErrorFaults);
+        return true;
+    }
 
-        result.trace.traverseReports(TraversalOrder.BREADTH_FIRST, true, report -> {
-            List<TraceReport> childrenReports = result.trace.getChildren(report);
+    @Override
+    public void visitReport(TraceReport report, FaultloadResult result, FeedbackContext context) {
+        List<TraceReport> childrenReports = result.trace.getChildren(report);
 
-            Set<FaultUid> expectedChildren = expectedPoints.stream()
-                    .filter(f -> f.hasParent() && f.getParent().matches(report.injectionPoint))
-                    .collect(Collectors.toSet());
+        Set<FaultUid> expectedChildren = expectedPoints.stream()
+                .filter(f -> f.hasParent() && f.getParent().matches(report.injectionPoint))
+                .collect(Collectors.toSet());
 
-            Set<FaultUid> observedChildren = childrenReports.stream()
-                    .map(f -> f.injectionPoint)
-                    .filter(f -> f != null)
-                    .collect(Collectors.toSet());
+        Set<FaultUid> observedChildren = childrenReports.stream()
+                .map(f -> f.injectionPoint)
+                .filter(f -> f != null)
+                .collect(Collectors.toSet());
 
-            Set<FaultUid> dissappeared = missingPoints(expectedChildren, observedChildren);
+        Set<FaultUid> dissappeared = missingPoints(expectedChildren, observedChildren);
 
-            if (dissappeared.isEmpty()) {
-                return;
-            }
+        if (dissappeared.isEmpty()) {
+            return;
+        }
 
-            Set<Behaviour> causes = result.trace.getChildren(report).stream()
-                    // TODO: check is this is correct
-                    .filter(f -> f.hasFaultBehaviour())
-                    .map(r -> r.getBehaviour())
-                    .collect(Collectors.toSet());
+        Set<Behaviour> causes = result.trace.getChildren(report).stream()
+                // TODO: check is this is correct
+                .filter(f -> f.hasFaultBehaviour())
+                .map(r -> r.getBehaviour())
+                .collect(Collectors.toSet());
 
-            // TODO: remove cause, if another cause as an inclusion condition
-            // X includes Y
-            // X does not exclude Z
-            // X,Y excludes Z
-            // -> Y excludes Z
+        // TODO: remove cause, if another cause as an inclusion condition
+        // X includes Y
+        // X does not exclude Z
+        // X,Y excludes Z
+        // -> Y excludes Z
 
-            for (FaultUid fault : dissappeared) {
-                handleHappensBefore(causes, fault, context);
-            }
-        });
+        for (FaultUid fault : dissappeared) {
+            handleHappensBefore(causes, fault, context);
+        }
     }
 
     private Set<FaultUid> missingPoints(Set<FaultUid> expected, Set<FaultUid> observed) {
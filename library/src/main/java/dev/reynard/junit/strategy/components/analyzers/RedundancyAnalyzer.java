@@ -19,6 +19,7 @@ import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StoreAccess;
 import dev.reynard.junit.strategy.util.Pair;
 import dev.reynard.junit.strategy.util.Sets;
 
@@ -86,6 +87,11 @@ public class RedundancyAnalyzer implements FeedbackHandler, Reporter {
         }
     }
 
+    @Override
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.TRACE_ONLY;
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         if (result.isInitial()) {
@@ -12,10 +12,16 @@ import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StoreAccess;
 
 public class StatusAnalyzer implements FeedbackHandler, Reporter {
     private final Map<String, Set<Integer>> faultStatus = new HashMap<>();
 
+    @Override
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.TRACE_ONLY;
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         for (var report : result.trace.getReports()) {
@@ -15,12 +15,18 @@ import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StoreAccess;
 
 public class StatusPropagationOracle implements FeedbackHandler, Reporter {
     private final Logger logger = LoggerFactory.getLogger(StatusPropagationOracle.class);
 
     private final Map<Fault, List<List<Fault>>> observations = new LinkedHashMap<>();
 
+    @Override
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.TRACE_ONLY;
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         if (result.isInitial()) {
@@ -4,63 +4,101 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.DoubleStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
 import dev.reynard.junit.strategy.FaultloadResult;
 import dev.reynard.junit.strategy.components.FeedbackContext;
-import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
+import dev.reynard.junit.strategy.components.ReportVisitor;
 import dev.reynard.junit.strategy.components.Reporter;
-import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.strategy.components.StoreAccess;
+import dev.reynard.junit.strategy.util.Env;
+import dev.reynard.junit.strategy.util.Histogram;
 
-public class TimingAnalyzer implements FeedbackHandler, Reporter {
+public class TimingAnalyzer implements ReportVisitor, Reporter {
     private final Logger logger = LoggerFactory.getLogger(TimingAnalyzer.class);
 
-    private final Map<Behaviour, List<Float>> responseTimings = new LinkedHashMap<>();
-    private final Map<Behaviour, List<Float>> overheadTimings = new LinkedHashMap<>();
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final String[] PERCENTILE_KEYS = { "p50_ms", "p90_ms", "p99_ms", "p999_ms" };
 
-    private void addTiming(Map<Behaviour, List<Float>> timings, Behaviour b, float timing) {
+    private final Map<Behaviour, Timings> responseTimings = new LinkedHashMap<>();
+    private final Map<Behaviour, Timings> overheadTimings = new LinkedHashMap<>();
+    // Keeping every raw value is only useful for debugging, as it grows with the run
+    private final boolean keepValues;
+
+    private static class Timings {
+        // Timings are recorded in microseconds
+        final Histogram histogram = new Histogram();
+        final List<Float> values;
+
+        Timings(boolean keepValues) {
+            values = keepValues ? new ArrayList<>() : null;
+        }
+    }
+
+    public TimingAnalyzer() {
+        this(Env.getEnvBool(Env.Keys.TIMING_VALUES));
+    }
+
+    public TimingAnalyzer(boolean keepValues) {
+        this.keepValues = keepValues;
+    }
+
+    private void addTiming(Map<Behaviour, Timings> timings, Behaviour b, float timing) {
         if (timing <= 0) {
             return;
         }
 
-        timings.computeIfAbsent(b, x -> new ArrayList<>()).add(timing);
+        var entry = timings.computeIfAbsent(b, x -> new Timings(keepValues));
+        entry.histogram.record(Math.round(timing * 1000.0));
+
+        if (entry.values != null) {
+            entry.values.add(timing);
+        }
     }
 
     @Override
-    public void handleFeedback(FaultloadResult result, FeedbackContext context) {
-        result.trace.traverseReports(TraversalOrder.BREADTH_FIRST, true, report -> {
-            var behaviour = report.getBehaviour();
-            addTiming(responseTimings, behaviour, report.response.durationMs);
-            addTiming(overheadTimings, behaviour, report.response.overheadDurationMs);
-        });
+    public StoreAccess getStoreAccess() {
+        return StoreAccess.TRACE_ONLY;
     }
 
-    private DoubleStream asDoubleStream(List<Float> v) {
-        return v.stream().mapToDouble(i -> i);
+    @Override
+    public void visitReport(TraceReport report, FaultloadResult result, FeedbackContext context) {
+        var behaviour = report.getBehaviour();
+        addTiming(responseTimings, behaviour, report.response.durationMs);
+        addTiming(overheadTimings, behaviour, report.response.overheadDurationMs);
     }
 
-    private List<Map<String, Object>> getTimingReport(Map<Behaviour, List<Float>> timings) {
+    private static double toMs(double micros) {
+        return micros / 1000.0;
+    }
+
+    private List<Map<String, Object>> getTimingReport(Map<Behaviour, Timings> timings) {
         List<Map<String, Object>> report = new ArrayList<>();
 
         for (var entry : timings.entrySet()) {
             Map<String, Object> reportEntry = new LinkedHashMap<>();
             var point = entry.getKey();
-            var values = entry.getValue();
-            double average = asDoubleStream(values).average().getAsDouble();
-            double max = asDoubleStream(values).max().getAsDouble();
-            double min = asDoubleStream(values).min().getAsDouble();
+            var histogram = entry.getValue().histogram;
 
             reportEntry.put("behaviour", point.toString());
-            reportEntry.put("min_ms", min);
-            reportEntry.put("average_ms", average);
-            reportEntry.put("max_ms", max);
-            reportEntry.put("count", values.size());
-            reportEntry.put("values", values);
+            reportEntry.put("min_ms", toMs(histogram.getMin()));
+            reportEntry.put("average_ms", toMs(histogram.getMean()));
+            reportEntry.put("max_ms", toMs(histogram.getMax()));
+
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                reportEntry.put(PERCENTILE_KEYS[i], toMs(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+
+            reportEntry.put("count", histogram.getCount());
+
+            if (entry.getValue().values != null) {
+                reportEntry.put("values", entry.getValue().values);
+            }
 
             report.add(reportEntry);
         }
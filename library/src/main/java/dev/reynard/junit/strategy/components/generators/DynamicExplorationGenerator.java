@@ -1,10 +1,12 @@
 package dev.reynard.junit.strategy.components.generators;
 
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -17,6 +19,8 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import dev.reynard.junit.faultload.Fault;
 import dev.reynard.junit.faultload.FaultUid;
 import dev.reynard.junit.faultload.Faultload;
@@ -26,12 +30,12 @@ import dev.reynard.junit.strategy.components.FeedbackContext;
 import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.PruneDecision;
-import dev.reynard.junit.strategy.components.Reporter;
+import dev.reynard.junit.strategy.components.StreamingReporter;
 import dev.reynard.junit.strategy.store.DynamicAnalysisStore;
 import dev.reynard.junit.strategy.util.Lists;
 import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
 
-public class DynamicExplorationGenerator extends StoreBasedGenerator implements FeedbackHandler, Reporter {
+public class DynamicExplorationGenerator extends StoreBasedGenerator implements FeedbackHandler, StreamingReporter {
     private final Logger logger = LoggerFactory.getLogger(DynamicExplorationGenerator.class);
 
     // Parameters
@@ -43,6 +47,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
     private final TreeNode root = new TreeNode(List.of());
     private final Deque<TreeNode> toVisit = new ArrayDeque<>();
     private final List<TreeNode> visited = new ArrayList<>();
+    private final Map<TreeNode, Integer> visitedIndex = new HashMap<>();
     private final Set<TreeNode> consideredNodes = new LinkedHashSet<>();
     private final Set<TreeNode> prunedNodes = new HashSet<>();
 
@@ -58,7 +63,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         this.pruneFunction = pruneFunction;
         this.pointOrder = traversalStrategy;
 
-        visited.add(root);
+        markVisited(root);
     }
 
     public DynamicExplorationGenerator(DynamicAnalysisStore store, Function<Set<Fault>, PruneDecision> pruneFunction,
@@ -70,6 +75,11 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         this(new DynamicAnalysisStore(modes), pruneFunction, TraversalOrder.DEPTH_FIRST_POST_ORDER);
     }
 
+    private void markVisited(TreeNode node) {
+        visitedIndex.putIfAbsent(node, visited.size());
+        visited.add(node);
+    }
+
     private void updateQueueSize() {
         queueSize.add(toVisit.size());
     }
@@ -179,7 +189,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
                 case KEEP -> {
                     logger.info("Found a candidate after {} attempt(s)", ops);
                     updateQueueSize();
-                    visited.add(node);
+                    markVisited(node);
                     return new Faultload(node.asSet());
                 }
             }
@@ -216,10 +226,15 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         }
 
         List<Fault> injected = result.trace.getInjectedFaults().stream().toList();
+        expandFrom(injected, observed);
+    }
+
+    /** Expand the search tree from a faultload, given the points observed in its result */
+    public void expandFrom(List<Fault> injected, List<FaultUid> observed) {
         List<FaultUid> injectedPoints = injected.stream()
                 .map(Fault::uid)
                 .toList();
-        List<FaultUid> known = context.getFaultInjectionPoints();
+        List<FaultUid> known = getFaultInjectionPoints();
         List<FaultUid> toExplore = new ArrayList<>();
 
         for (var point : observed) {
@@ -255,53 +270,68 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         return toVisit.size();
     }
 
-    private List<Object> reportOf(Collection<Fault> node) {
-        return node.stream().map(x -> {
-            Map<String, Object> faultReport = new LinkedHashMap<>();
-            faultReport.put("uid", x.uid().toString());
-            faultReport.put("mode", x.mode().toString());
-            return (Object) faultReport;
-        }).toList();
+    private void writeFaults(JsonGenerator gen, Collection<Fault> faults) throws IOException {
+        gen.writeStartArray();
+        for (var fault : faults) {
+            gen.writeStartObject();
+            gen.writeStringField("uid", fault.uid().toString());
+            gen.writeStringField("mode", fault.mode().toString());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
     }
 
-    private Map<String, Object> buildTreeReport(TreeNode node, TreeNode parent) {
-        Map<String, Object> report = new LinkedHashMap<>();
-        boolean isPruned = prunedNodes.contains(node);
-        int index = visited.indexOf(node);
-        report.put("index", index);
-        report.put("pruned", isPruned);
+    private void writeTreeNode(JsonGenerator gen, TreeNode node, TreeNode parent) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("index", visitedIndex.getOrDefault(node, -1));
+        gen.writeBooleanField("pruned", prunedNodes.contains(node));
+        gen.writeFieldName("node");
 
         if (parent == null) {
-            report.put("node", reportOf(node.value()));
+            writeFaults(gen, node.value());
         } else {
-            var addition = node.value().subList(parent.value().size(), node.value().size());
-            report.put("node", reportOf(addition));
+            writeFaults(gen, node.value().subList(parent.value().size(), node.value().size()));
         }
+    }
 
-        List<TreeNode> children = expansionTree.get(node);
-        if (children == null || children.isEmpty()) {
-            return report;
-        }
+    private void writeTreeReport(JsonGenerator gen) throws IOException {
+        // Walk the tree with an explicit stack, as it can be deep
+        Deque<TreeNode> nodes = new ArrayDeque<>();
+        Deque<Integer> nextChild = new ArrayDeque<>();
+
+        writeTreeNode(gen, root, null);
+        nodes.push(root);
+        nextChild.push(0);
 
-        List<Map<String, Object>> childReports = new ArrayList<>();
-        for (var child : children) {
-            var childReport = buildTreeReport(child, node);
-            if (childReport == null) {
+        while (!nodes.isEmpty()) {
+            TreeNode node = nodes.peek();
+            int index = nextChild.pop();
+            List<TreeNode> children = expansionTree.getOrDefault(node, List.of());
+
+            if (index < children.size()) {
+                if (index == 0) {
+                    gen.writeArrayFieldStart("children");
+                }
+
+                nextChild.push(index + 1);
+                TreeNode child = children.get(index);
+                writeTreeNode(gen, child, node);
+                nodes.push(child);
+                nextChild.push(0);
                 continue;
             }
-            childReports.add(childReport);
-        }
 
-        if (childReports.isEmpty()) {
-            return report;
-        }
+            if (!children.isEmpty()) {
+                gen.writeEndArray();
+            }
 
-        report.put("children", childReports);
-        return report;
+            gen.writeEndObject();
+            nodes.pop();
+        }
     }
 
     @Override
-    public Object report(PruneContext context) {
+    public void writeReport(JsonGenerator gen, PruneContext context) throws IOException {
         // TODO: the report is a bit excessive, we should probably
         // only report the most important information
         Map<String, Object> stats = new LinkedHashMap<>();
@@ -344,36 +374,26 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         details.put("simplified_fault_injection_points", simplifiedPoints);
         details.put("queue_size", queueSize);
 
+        gen.writeStartObject();
+        gen.writeObjectField("stats", stats);
+        gen.writeObjectField("details", details);
+        gen.writeObjectField("implications", store.getImplicationsReport());
+
         // Report the visited faultloads
-        ArrayList<Object> visitedInOrder = new ArrayList<>(visited.size());
+        gen.writeObjectFieldStart("visited");
+        gen.writeArrayFieldStart("in_order");
         for (var i = 0; i < visited.size(); i++) {
-            TreeNode node = visited.get(i);
-
-            Map<String, Object> visitedNodeReport = new LinkedHashMap<>();
-            List<Object> faults = node.value().stream()
-                    .map(x -> {
-                        Map<String, Object> faultReport = new LinkedHashMap<>();
-                        faultReport.put("uid", x.uid().toString());
-                        faultReport.put("mode", x.mode().toString());
-                        return (Object) faultReport;
-                    })
-                    .toList();
-
-            visitedNodeReport.put("index", i);
-            visitedNodeReport.put("faultload", faults);
-            visitedInOrder.add(visitedNodeReport);
+            gen.writeStartObject();
+            gen.writeNumberField("index", i);
+            gen.writeFieldName("faultload");
+            writeFaults(gen, visited.get(i).value());
+            gen.writeEndObject();
         }
+        gen.writeEndArray();
+        gen.writeEndObject();
 
-        Map<String, Object> visitReport = new LinkedHashMap<>();
-        visitReport.put("in_order", visitedInOrder);
-
-        Map<String, Object> report = new LinkedHashMap<>();
-        report.put("stats", stats);
-        report.put("details", details);
-
-        report.put("implications", store.getImplicationsReport());
-        report.put("visited", visitReport);
-        report.put("tree", buildTreeReport(root, null));
-        return report;
+        gen.writeFieldName("tree");
+        writeTreeReport(gen);
+        gen.writeEndObject();
     }
 }
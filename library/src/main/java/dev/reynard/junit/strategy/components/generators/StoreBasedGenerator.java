@@ -24,12 +24,12 @@ public abstract class StoreBasedGenerator extends Generator {
     }
 
     @Override
-    public void reportFaultUid(FaultUid faultInjectionPoint) {
+    public boolean reportFaultUid(FaultUid faultInjectionPoint) {
         if (faultInjectionPoint == null) {
-            return;
+            return false;
         }
 
-        store.addFaultUid(faultInjectionPoint);
+        return store.addFaultUid(faultInjectionPoint);
     }
 
     @Override
@@ -43,8 +43,8 @@ public abstract class StoreBasedGenerator extends Generator {
     }
 
     @Override
-    public void reportHappyPath(TraceReport report) {
-        store.addHappyPath(report.injectionPoint, report);
+    public boolean reportHappyPath(TraceReport report) {
+        return store.addHappyPath(report.injectionPoint, report);
     }
 
     @Override
@@ -100,18 +100,18 @@ public abstract class StoreBasedGenerator extends Generator {
     }
 
     @Override
-    public void pruneFaultUidSubset(Set<FaultUid> subset) {
-        store.pruneFaultUidSubset(subset);
+    public boolean pruneFaultUidSubset(Set<FaultUid> subset) {
+        return store.pruneFaultUidSubset(subset);
     }
 
     @Override
-    public void pruneFaultSubset(Set<Fault> subset) {
-        store.pruneFaultSubset(subset);
+    public boolean pruneFaultSubset(Set<Fault> subset) {
+        return store.pruneFaultSubset(subset);
     }
 
     @Override
-    public void pruneFaultload(Faultload faultload) {
-        store.pruneFaultload(faultload);
+    public boolean pruneFaultload(Faultload faultload) {
+        return store.pruneFaultload(faultload);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package dev.reynard.junit.strategy.components.pruners;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -7,17 +8,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.BehaviourSet;
+import dev.reynard.junit.faultload.Fault;
 import dev.reynard.junit.faultload.Faultload;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.PruneDecision;
 import dev.reynard.junit.strategy.components.Pruner;
 import dev.reynard.junit.strategy.util.Env;
+import dev.reynard.junit.strategy.util.Pair;
 
 public class DynamicReductionPruner implements Pruner {
     private final Logger logger = LoggerFactory.getLogger(DynamicReductionPruner.class);
 
     private final boolean enabled;
 
+    // Historic results are only appended, so their index is extended as they grow
+    private List<Pair<Set<Fault>, List<Behaviour>>> indexedResults = null;
+    // Grown by copying, so the views handed out stay valid while it grows
+    private BehaviourSet[] historicBehaviours = new BehaviourSet[16];
+    private int historicSize = 0;
+
     public DynamicReductionPruner() {
         this.enabled = Env.getEnvBool(Env.Keys.USE_SER);
     }
@@ -29,6 +39,7 @@ public class DynamicReductionPruner implements Pruner {
         }
 
         Set<Behaviour> expected = ctx.getExpectedBehaviours(faultload.faultSet());
+        List<BehaviourSet> historic = getHistoricBehaviours(ctx);
 
         // for all causes
         for (var cause : expected) {
@@ -43,10 +54,10 @@ public class DynamicReductionPruner implements Pruner {
             }
 
             // We check if there is a historic result that has all the effects
-            boolean found = ctx.getHistoricResults()
+            boolean found = historic
                     .stream()
                     .anyMatch(historicResult -> {
-                        return Behaviour.isSubsetOf(effects, historicResult.second());
+                        return Behaviour.isSubsetOf(effects, historicResult);
                     });
 
             if (!found) {
@@ -58,4 +69,24 @@ public class DynamicReductionPruner implements Pruner {
         return PruneDecision.PRUNE;
     }
 
+    private synchronized List<BehaviourSet> getHistoricBehaviours(PruneContext ctx) {
+        var results = ctx.getHistoricResults();
+
+        if (results != indexedResults || results.size() < historicSize) {
+            indexedResults = results;
+            historicBehaviours = new BehaviourSet[Math.max(16, results.size())];
+            historicSize = 0;
+        }
+
+        if (results.size() > historicBehaviours.length) {
+            historicBehaviours = Arrays.copyOf(historicBehaviours,
+                    Math.max(results.size(), 2 * historicBehaviours.length));
+        }
+
+        for (; historicSize < results.size(); historicSize++) {
+            historicBehaviours[historicSize] = BehaviourSet.of(results.get(historicSize).second());
+        }
+
+        return Arrays.asList(historicBehaviours).subList(0, historicSize);
+    }
 }
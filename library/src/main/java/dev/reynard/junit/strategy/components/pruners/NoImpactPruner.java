@@ -15,6 +15,7 @@ import dev.reynard.junit.strategy.components.FeedbackHandler;
 import dev.reynard.junit.strategy.components.PruneContext;
 import dev.reynard.junit.strategy.components.PruneDecision;
 import dev.reynard.junit.strategy.components.Pruner;
+import dev.reynard.junit.strategy.components.StoreAccess;
 import dev.reynard.junit.strategy.util.Sets;
 
 public class NoImpactPruner implements Pruner, FeedbackHandler {
@@ -30,6 +31,12 @@ public class NoImpactPruner implements Pruner, FeedbackHandler {
         this(false);
     }
 
+    @Override
+    public StoreAccess getStoreAccess() {
+        // Pruning impactless faults reports fault subsets to the store
+        return pruneImpactlessFaults ? StoreAccess.STORE_WRITE : StoreAccess.STORE_READ;
+    }
+
     @Override
     public void handleFeedback(FaultloadResult result, FeedbackContext context) {
         if (result.isInitial()) {
@@ -70,6 +70,10 @@ public class DynamicAnalysisStore {
         return this.redundantFaultSubsets;
     }
 
+    public ImplicationsStore getImplications() {
+        return implicationsStore;
+    }
+
     public Map<String, Object> getImplicationsReport() {
         return implicationsStore.getReport(this);
     }
@@ -82,8 +86,8 @@ public class DynamicAnalysisStore {
         return happyPath.get(uid);
     }
 
-    public void addHappyPath(FaultUid uid, TraceReport report) {
-        happyPath.put(uid, report);
+    public boolean addHappyPath(FaultUid uid, TraceReport report) {
+        return happyPath.put(uid, report) == null;
     }
 
     public Set<FaultUid> getNonConditionalFaultUids() {
@@ -1,6 +1,8 @@
 package dev.reynard.junit.strategy.store;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -14,6 +16,7 @@ import dev.reynard.junit.faultload.Behaviour;
 import dev.reynard.junit.faultload.Fault;
 import dev.reynard.junit.faultload.FaultInjectionPoint;
 import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.modes.FailureMode;
 import dev.reynard.junit.strategy.store.ImplicationsStore.DownstreamRequestEffect;
 import dev.reynard.junit.strategy.store.ImplicationsStore.Substitution;
 import dev.reynard.junit.strategy.store.ImplicationsStore.UpstreamResponseEffect;
@@ -47,8 +50,61 @@ public class ImplicationsModel {
         return x.matches(y);
     }
 
-    private boolean isLocalSubsetOf(Collection<Behaviour> subset, Collection<Behaviour> superset) {
-        return Sets.isSubsetOf(subset, superset, (x, y) -> matchesLocally(x, y));
+    private boolean isLocalSubsetOf(Collection<Behaviour> subset, LocalBehaviours superset) {
+        if (!matchWeak) {
+            return Sets.isSubsetOf(subset, superset.behaviours, (x, y) -> matchesLocally(x, y));
+        }
+
+        if (subset.size() > superset.behaviours.size()) {
+            return false;
+        }
+
+        for (Behaviour behaviour : subset) {
+            if (!superset.containsLocalMatch(behaviour)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Behaviours indexed by the key of their point and their mode, as they are
+     * matched locally. Concrete points are looked up and their predecessors
+     * checked within the bucket, only points with wildcards are scanned.
+     */
+    private class LocalBehaviours {
+        private final Collection<Behaviour> behaviours;
+        private final Map<Pair<FaultInjectionPoint, FailureMode>, List<Behaviour>> concrete = new HashMap<>();
+        private final List<Behaviour> wildcards = new ArrayList<>();
+
+        LocalBehaviours(Collection<Behaviour> behaviours) {
+            this.behaviours = behaviours;
+
+            for (Behaviour behaviour : behaviours) {
+                FaultInjectionPoint point = behaviour.uid().getPoint();
+                if (point.isConcrete()) {
+                    concrete.computeIfAbsent(new Pair<>(point.key(), behaviour.mode()), x -> new ArrayList<>(1))
+                            .add(behaviour);
+                } else {
+                    wildcards.add(behaviour);
+                }
+            }
+        }
+
+        boolean containsLocalMatch(Behaviour behaviour) {
+            FaultInjectionPoint point = behaviour.uid().getPoint();
+            if (!point.isConcrete()) {
+                return behaviours.stream().anyMatch(x -> matchesLocally(behaviour, x));
+            }
+
+            List<Behaviour> bucket = concrete.get(new Pair<>(point.key(), behaviour.mode()));
+            if (bucket != null && bucket.stream().anyMatch(x -> matchesLocally(behaviour, x))) {
+                return true;
+            }
+
+            return wildcards.stream().anyMatch(x -> matchesLocally(behaviour, x));
+        }
     }
 
     private Behaviour getMatchingPertubation(FaultUid cause, Collection<Fault> pertubations) {
@@ -149,6 +205,8 @@ public class ImplicationsModel {
                 includeCausation = 0;
             }
 
+            LocalBehaviours localDownstreams = new LocalBehaviours(downstreams);
+
             // If we have reasons to include it
             // Check if there are better reasons to exclude it
             for (var subst : exclusionsToApply) {
@@ -156,7 +214,7 @@ public class ImplicationsModel {
                     continue;
                 }
 
-                if (isLocalSubsetOf(subst.causes(), downstreams)) {
+                if (isLocalSubsetOf(subst.causes(), localDownstreams)) {
                     // Found the most complex reason to exclude it
                     excludeCausation = subst.causes().size();
                     break;
@@ -169,7 +227,7 @@ public class ImplicationsModel {
                     continue;
                 }
 
-                if (isLocalSubsetOf(subst.causes(), downstreams)) {
+                if (isLocalSubsetOf(subst.causes(), localDownstreams)) {
                     // Found the most complex reason to include it
                     includeCausation = subst.causes().size();
                     break;
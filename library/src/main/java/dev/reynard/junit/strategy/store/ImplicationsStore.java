@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.BehaviourSet;
 import dev.reynard.junit.faultload.Fault;
 import dev.reynard.junit.faultload.FaultInjectionPoint;
 import dev.reynard.junit.faultload.FaultUid;
@@ -120,8 +121,9 @@ public class ImplicationsStore {
 
   // --- Upstream Responses ---
   public boolean hasUpstreamResponse(Set<Behaviour> causes, Behaviour effect) {
+    BehaviourSet indexedCauses = BehaviourSet.of(causes);
     return upstreamResponses.get(getLookupKey(effect)).stream()
-        .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, causes));
+        .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, indexedCauses));
   }
 
   public boolean addUpstreamResponse(Collection<Behaviour> causes, Behaviour effect) {
@@ -132,8 +134,7 @@ public class ImplicationsStore {
       assertIsCausedBy(effect, cause);
     }
 
-    var normalizedCauses = causes.stream()
-        .collect(Collectors.toSet());
+    var normalizedCauses = BehaviourSet.of(causes);
 
     if (hasUpstreamResponse(normalizedCauses, effect)) {
       return false;
@@ -146,10 +147,11 @@ public class ImplicationsStore {
   // --- Inclusions and Exclusions ---
   private boolean hasEffect(Set<Behaviour> causes, FaultUid effect,
       LookupList<FaultInjectionPoint, Substitution> target) {
+    BehaviourSet indexedCauses = BehaviourSet.of(causes);
     return target
         .get(getLookupKey(effect))
         .stream()
-        .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, causes));
+        .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, indexedCauses));
   }
 
   private boolean addEffect(Collection<Behaviour> causes, FaultUid effect,
@@ -167,8 +169,7 @@ public class ImplicationsStore {
       assertIsCausedBy(commonParent, cause.uid());
     }
 
-    Set<Behaviour> normalisedCauses = causes.stream()
-        .collect(Collectors.toSet());
+    Set<Behaviour> normalisedCauses = BehaviourSet.of(causes);
 
     if (hasEffect(normalisedCauses, effect, target)) {
       return false;
@@ -206,7 +207,7 @@ public class ImplicationsStore {
 
   public boolean isAnyInclusionCause(Behaviour point) {
     for (var inclusion : inclusions.get(getLookupKey(point))) {
-      if (inclusion.causes.stream().anyMatch(x -> x.matches(point))) {
+      if (BehaviourSet.of(inclusion.causes).containsMatch(point)) {
         return true;
       }
     }
@@ -244,6 +245,23 @@ public class ImplicationsStore {
         .toList();
   }
 
+  // --- Raw facts ---
+  public List<DownstreamRequestEffect> getDownstreamRequests() {
+    return downstreamRequests;
+  }
+
+  public List<UpstreamResponseEffect> getUpstreamResponses() {
+    return upstreamResponses.getAll();
+  }
+
+  public List<Substitution> getInclusions() {
+    return inclusions.getAll();
+  }
+
+  public List<Substitution> getExclusions() {
+    return exclusions.getAll();
+  }
+
   public FaultUid getRootCause() {
     for (var upstream : downstreamRequests) {
       if (upstream.cause.isInitial()) {
@@ -0,0 +1,433 @@
+package dev.reynard.junit.strategy.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.instrumentation.trace.tree.TraceResponse;
+import dev.reynard.junit.strategy.store.ImplicationsStore.DownstreamRequestEffect;
+import dev.reynard.junit.strategy.store.ImplicationsStore.Substitution;
+import dev.reynard.junit.strategy.store.ImplicationsStore.UpstreamResponseEffect;
+
+/**
+ * The learned model of a run: its happy path, the implications and the
+ * redundancy sets, plus the explored faultloads. Used to warm-start a later
+ * run, where only facts about unchanged parts of the happy path are kept.
+ */
+@JsonSerialize
+@JsonDeserialize
+public record StoreSnapshot(
+        @JsonProperty("happy_path") List<TraceReport> happyPath,
+        @JsonProperty("downstream_requests") List<DownstreamRequestEffect> downstreamRequests,
+        @JsonProperty("upstream_responses") List<UpstreamResponseEffect> upstreamResponses,
+        @JsonProperty("inclusions") List<Substitution> inclusions,
+        @JsonProperty("exclusions") List<Substitution> exclusions,
+        @JsonProperty("redundant_faultloads") List<Set<Fault>> redundantFaultloads,
+        @JsonProperty("redundant_uid_subsets") List<Set<FaultUid>> redundantUidSubsets,
+        @JsonProperty("redundant_fault_subsets") List<Set<Fault>> redundantFaultSubsets,
+        @JsonProperty("results") List<HistoricResult> results) {
+
+    public static final String FILE_NAME = "model.json";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @JsonSerialize
+    @JsonDeserialize
+    public record HistoricResult(
+            @JsonProperty("faults") Set<Fault> faults,
+            @JsonProperty("behaviours") List<Behaviour> behaviours) {
+    }
+
+    public static StoreSnapshot of(DynamicAnalysisStore store) {
+        ImplicationsStore implications = store.getImplications();
+
+        List<HistoricResult> results = store.getHistoricResults().stream()
+                .map(x -> new HistoricResult(x.first(), x.second()))
+                .toList();
+
+        return new StoreSnapshot(
+                List.copyOf(store.getHappyPath().values()),
+                List.copyOf(implications.getDownstreamRequests()),
+                List.copyOf(implications.getUpstreamResponses()),
+                List.copyOf(implications.getInclusions()),
+                List.copyOf(implications.getExclusions()),
+                List.copyOf(store.getRedundantFaultloads()),
+                List.copyOf(store.getRedundantUidSubsets()),
+                List.copyOf(store.getRedundantFaultSubsets()),
+                results);
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        // Write to a temporary file first, so a crash never leaves a partial model
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        mapper.writeValue(tmp.toFile(), this);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static StoreSnapshot read(Path file) throws IOException {
+        return mapper.readValue(file.toFile(), StoreSnapshot.class);
+    }
+
+    private static boolean sameResponse(TraceResponse a, TraceResponse b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+
+        if (a.status != b.status) {
+            return false;
+        }
+
+        return a.body == null ? b.body == null : a.body.equals(b.body);
+    }
+
+    private static Map<FaultUid, Set<FaultUid>> getChildren(Collection<FaultUid> uids) {
+        Map<FaultUid, Set<FaultUid>> children = new HashMap<>();
+
+        for (FaultUid uid : uids) {
+            children.putIfAbsent(uid, new HashSet<>());
+
+            FaultUid parent = uid.getParent();
+            if (parent != null) {
+                children.computeIfAbsent(parent, k -> new HashSet<>()).add(uid);
+            }
+        }
+
+        return children;
+    }
+
+    /**
+     * Determine the points whose complete happy path subtree is unchanged: the
+     * point and all its descendants respond the same, and no calls were added
+     * or removed.
+     */
+    public Set<FaultUid> getStableSubtrees(Map<FaultUid, TraceReport> current) {
+        Map<FaultUid, TraceReport> previous = new HashMap<>();
+        for (var report : happyPath) {
+            previous.put(report.injectionPoint, report);
+        }
+
+        var previousChildren = getChildren(previous.keySet());
+        var currentChildren = getChildren(current.keySet());
+
+        Map<FaultUid, Boolean> stable = new HashMap<>();
+        for (var uid : current.keySet()) {
+            isStable(uid, previous, current, previousChildren, currentChildren, stable);
+        }
+
+        Set<FaultUid> result = new HashSet<>();
+        for (var entry : stable.entrySet()) {
+            if (entry.getValue()) {
+                result.add(entry.getKey());
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isStable(FaultUid uid, Map<FaultUid, TraceReport> previous,
+            Map<FaultUid, TraceReport> current, Map<FaultUid, Set<FaultUid>> previousChildren,
+            Map<FaultUid, Set<FaultUid>> currentChildren, Map<FaultUid, Boolean> memo) {
+        Boolean known = memo.get(uid);
+        if (known != null) {
+            return known;
+        }
+
+        TraceReport before = previous.get(uid);
+        TraceReport after = current.get(uid);
+
+        boolean stable = before != null && after != null
+                && sameResponse(before.response, after.response)
+                && previousChildren.getOrDefault(uid, Set.of()).equals(currentChildren.getOrDefault(uid, Set.of()));
+
+        if (stable) {
+            for (var child : currentChildren.getOrDefault(uid, Set.of())) {
+                if (!isStable(child, previous, current, previousChildren, currentChildren, memo)) {
+                    stable = false;
+                }
+            }
+        }
+
+        memo.put(uid, stable);
+        return stable;
+    }
+
+    /**
+     * Points are covered by a stable subtree if the deepest point that handles
+     * all of them (the common ancestor of their callers) is unchanged.
+     */
+    public static boolean isCovered(Set<FaultUid> stable, Collection<FaultUid> uids) {
+        List<FaultInjectionPoint> prefix = null;
+
+        for (FaultUid uid : uids) {
+            if (uid == null || uid.isAnyStack() || !uid.hasParent()) {
+                return false;
+            }
+
+            List<FaultInjectionPoint> callerStack = uid.getParent().stack();
+
+            if (prefix == null) {
+                prefix = new ArrayList<>(callerStack);
+                continue;
+            }
+
+            int common = 0;
+            while (common < prefix.size() && common < callerStack.size()
+                    && prefix.get(common).equals(callerStack.get(common))) {
+                common++;
+            }
+            prefix = prefix.subList(0, common);
+        }
+
+        if (prefix == null || prefix.isEmpty()) {
+            return false;
+        }
+
+        return stable.contains(new FaultUid(List.copyOf(prefix)));
+    }
+
+    /**
+     * Translate the facts of another test onto the current happy path. A
+     * subtree is shared if its root has the same localised uid as a current
+     * point, and the same happy path relative to that root. Only facts within
+     * shared subtrees are kept, and explored faultloads are dropped, as the
+     * outcome of a test differs per test.
+     */
+    public StoreSnapshot reroot(Map<FaultUid, TraceReport> current) {
+        Map<FaultUid, TraceReport> previous = new HashMap<>();
+        for (var report : happyPath) {
+            previous.put(report.injectionPoint, report);
+        }
+
+        var previousChildren = getChildren(previous.keySet());
+        var currentChildren = getChildren(current.keySet());
+
+        Map<FaultUid, List<FaultUid>> byLocalised = new HashMap<>();
+        for (var uid : current.keySet()) {
+            if (uid.hasParent()) {
+                byLocalised.computeIfAbsent(uid.asLocalised(), k -> new ArrayList<>()).add(uid);
+            }
+        }
+
+        // Shallow points first, so only the largest shared subtrees are mapped
+        List<FaultUid> candidates = previous.keySet().stream()
+                .filter(FaultUid::hasParent)
+                .sorted(Comparator.comparingInt(FaultUid::depth))
+                .toList();
+
+        Map<FaultUid, FaultUid> roots = new HashMap<>();
+        for (var uid : candidates) {
+            if (isWithin(uid, roots.keySet())) {
+                continue;
+            }
+
+            for (var match : byLocalised.getOrDefault(uid.asLocalised(), List.of())) {
+                if (isSameSubtree(uid, match, previous, current, previousChildren, currentChildren)) {
+                    roots.put(uid, match);
+                    break;
+                }
+            }
+        }
+
+        List<TraceReport> sharedPath = current.values().stream()
+                .filter(x -> isWithin(x.injectionPoint, roots.values()))
+                .toList();
+
+        List<DownstreamRequestEffect> downstream = new ArrayList<>();
+        for (var effect : downstreamRequests) {
+            FaultUid cause = translate(effect.cause(), roots);
+            Set<FaultUid> effects = translateUids(effect.effects(), roots);
+            if (cause != null && effects != null) {
+                downstream.add(new DownstreamRequestEffect(cause, effects));
+            }
+        }
+
+        List<UpstreamResponseEffect> upstream = new ArrayList<>();
+        for (var effect : upstreamResponses) {
+            Set<Behaviour> causes = translateBehaviours(effect.causes(), roots);
+            Behaviour behaviour = translate(effect.effect(), roots);
+            if (causes != null && behaviour != null) {
+                upstream.add(new UpstreamResponseEffect(causes, behaviour));
+            }
+        }
+
+        List<HistoricResult> sharedResults = new ArrayList<>();
+        for (var result : results) {
+            Set<Fault> faults = translateFaults(result.faults(), roots);
+            if (faults == null || faults.isEmpty()) {
+                continue;
+            }
+
+            // Only the behaviour within the shared subtrees is known
+            List<Behaviour> behaviours = new ArrayList<>();
+            for (var behaviour : result.behaviours()) {
+                Behaviour translated = translate(behaviour, roots);
+                if (translated != null) {
+                    behaviours.add(translated);
+                }
+            }
+
+            sharedResults.add(new HistoricResult(faults, behaviours));
+        }
+
+        return new StoreSnapshot(
+                sharedPath,
+                downstream,
+                upstream,
+                translateSubstitutions(inclusions, roots),
+                translateSubstitutions(exclusions, roots),
+                List.of(),
+                redundantUidSubsets.stream()
+                        .map(x -> translateUids(x, roots))
+                        .filter(x -> x != null)
+                        .toList(),
+                redundantFaultSubsets.stream()
+                        .map(x -> translateFaults(x, roots))
+                        .filter(x -> x != null)
+                        .toList(),
+                sharedResults);
+    }
+
+    private boolean isSameSubtree(FaultUid before, FaultUid after, Map<FaultUid, TraceReport> previous,
+            Map<FaultUid, TraceReport> current, Map<FaultUid, Set<FaultUid>> previousChildren,
+            Map<FaultUid, Set<FaultUid>> currentChildren) {
+        if (!sameResponse(previous.get(before).response, current.get(after).response)) {
+            return false;
+        }
+
+        Set<FaultUid> beforeChildren = previousChildren.getOrDefault(before, Set.of());
+        Set<FaultUid> afterChildren = currentChildren.getOrDefault(after, Set.of());
+        if (beforeChildren.size() != afterChildren.size()) {
+            return false;
+        }
+
+        for (var child : beforeChildren) {
+            FaultUid translated = after.asChild(child.getPoint());
+            if (!afterChildren.contains(translated)) {
+                return false;
+            }
+
+            if (!isSameSubtree(child, translated, previous, current, previousChildren, currentChildren)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isWithin(FaultUid uid, Collection<FaultUid> roots) {
+        for (FaultUid ancestor = uid; ancestor != null; ancestor = ancestor.getParent()) {
+            if (roots.contains(ancestor)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Re-root the uid onto the current test, or null if it is not shared. */
+    private static FaultUid translate(FaultUid uid, Map<FaultUid, FaultUid> roots) {
+        if (uid == null || uid.isAnyStack()) {
+            return null;
+        }
+
+        List<FaultInjectionPoint> suffix = new ArrayList<>();
+        FaultUid ancestor = uid;
+        while (ancestor != null && !roots.containsKey(ancestor)) {
+            suffix.add(ancestor.getPoint());
+            ancestor = ancestor.getParent();
+        }
+
+        if (ancestor == null) {
+            return null;
+        }
+
+        FaultUid translated = roots.get(ancestor);
+        for (int i = suffix.size() - 1; i >= 0; i--) {
+            translated = translated.asChild(suffix.get(i));
+        }
+
+        return translated;
+    }
+
+    private static Behaviour translate(Behaviour behaviour, Map<FaultUid, FaultUid> roots) {
+        FaultUid uid = translate(behaviour.uid(), roots);
+        return uid == null ? null : new Behaviour(uid, behaviour.mode());
+    }
+
+    private static Set<FaultUid> translateUids(Collection<FaultUid> uids, Map<FaultUid, FaultUid> roots) {
+        Set<FaultUid> translated = new LinkedHashSet<>();
+        for (var uid : uids) {
+            FaultUid shared = translate(uid, roots);
+            if (shared == null) {
+                return null;
+            }
+            translated.add(shared);
+        }
+
+        return translated;
+    }
+
+    private static Set<Behaviour> translateBehaviours(Collection<Behaviour> behaviours,
+            Map<FaultUid, FaultUid> roots) {
+        Set<Behaviour> translated = new LinkedHashSet<>();
+        for (var behaviour : behaviours) {
+            Behaviour shared = translate(behaviour, roots);
+            if (shared == null) {
+                return null;
+            }
+            translated.add(shared);
+        }
+
+        return translated;
+    }
+
+    private static Set<Fault> translateFaults(Collection<Fault> faults, Map<FaultUid, FaultUid> roots) {
+        Set<Fault> translated = new LinkedHashSet<>();
+        for (var fault : faults) {
+            FaultUid uid = translate(fault.uid(), roots);
+            if (uid == null) {
+                return null;
+            }
+            translated.add(new Fault(uid, fault.mode()));
+        }
+
+        return translated;
+    }
+
+    private static List<Substitution> translateSubstitutions(List<Substitution> substitutions,
+            Map<FaultUid, FaultUid> roots) {
+        List<Substitution> translated = new ArrayList<>();
+        for (var substitution : substitutions) {
+            Set<Behaviour> causes = translateBehaviours(substitution.causes(), roots);
+            FaultUid effect = translate(substitution.effect(), roots);
+            if (causes != null && effect != null) {
+                translated.add(new Substitution(causes, effect));
+            }
+        }
+
+        return translated;
+    }
+}
@@ -6,6 +6,19 @@ public class Env {
         // Tag for the image
         OUTPUT_TAG("default"),
         OUTPUT_DIR(""),
+        // Write a checkpoint that a later run can resume from
+        CHECKPOINT("false"),
+        RESUME_FROM(""),
+        WARM_START_FROM(""),
+        METRICS_PORT(""),
+        // Share learned models between the tests of a class
+        SHARE_KNOWLEDGE("false"),
+        // Gzip the result log
+        COMPRESS_RESULTS("false"),
+        // Include every raw timing in the reports
+        TIMING_VALUES("false"),
+        // Measure the duration of frequent calls, such as pruning
+        SAMPLE_TIMINGS("true"),
         USE_SER("true"),
         CONTROLLER_IMAGE("dflipse/reynard-controller:latest"),
         PROXY_IMAGE("dflipse/reynard-proxy:latest"),
@@ -0,0 +1,117 @@
+package dev.reynard.junit.strategy.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, log-bucketed histogram of non-negative values. Every power of two
+ * is split into a fixed number of linear sub-buckets, so the relative error of
+ * a reported value is bounded. The buckets are allocated up front for values
+ * up to 2^40 (about 18 minutes in nanoseconds); larger values are counted in
+ * the last bucket, but are still reflected in the maximum.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_INDEX = indexOf((1L << 40) - 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_INDEX + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must be non-negative: " + value);
+        }
+
+        counts.incrementAndGet(Math.min(MAX_INDEX, indexOf(value)));
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * The smallest value such that the given percentage of the recorded values
+     * are at most that value, up to the precision of the buckets.
+     */
+    public long getValueAtPercentile(double percentile) {
+        // Concurrent updates can be missed, so rank against the buckets themselves
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        double fraction = Math.min(100.0, Math.max(0.0, percentile)) / 100.0;
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        long lowest = getMin();
+        long highest = getMax();
+
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return i == MAX_INDEX ? highest : Math.max(lowest, Math.min(highest, highestValueOf(i)));
+            }
+        }
+
+        return highest;
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+
+        count.reset();
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        // Values in [2^e, 2^(e+1)) are shifted into the upper half of the sub-buckets
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return shift * HALF_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / HALF_BUCKETS - 1;
+        long subBucket = index - (long) shift * HALF_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
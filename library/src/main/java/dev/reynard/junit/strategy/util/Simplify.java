@@ -1,6 +1,7 @@
 package dev.reynard.junit.strategy.util;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -41,6 +42,12 @@ public class Simplify {
         List<Set<Behaviour>> faultSets = new ArrayList<>();
         List<Set<FaultUid>> faultUidSets = new ArrayList<>();
 
+        // Modes are interned, so a set of modes is a mask of their ordinals
+        BitSet allModes = new BitSet();
+        for (var mode : failureModes) {
+            allModes.set(mode.ordinal());
+        }
+
         Set<Integer> toSkip = new LinkedHashSet<>();
 
         for (int i = 0; i < sets.size(); i++) {
@@ -51,9 +58,9 @@ public class Simplify {
             var subset = sets.get(i);
             Set<FaultUid> faultUids = Behaviour.getFaultUids(subset);
 
-            Map<FaultUid, Set<FailureMode>> represented = new HashMap<>();
+            Map<FaultUid, BitSet> represented = new HashMap<>();
             for (var uid : faultUids) {
-                represented.put(uid, new LinkedHashSet<>());
+                represented.put(uid, new BitSet());
             }
             Set<Integer> skipIfFound = new LinkedHashSet<>();
 
@@ -72,15 +79,18 @@ public class Simplify {
 
                 skipIfFound.add(j);
                 for (var fault : other) {
-                    represented.get(fault.uid()).add(fault.mode());
+                    if (fault.mode() != null) {
+                        represented.get(fault.uid()).set(fault.mode().ordinal());
+                    }
                 }
             }
 
             boolean allRepresented = true;
-            for (var entry : represented.entrySet()) {
-                var modes = entry.getValue();
+            for (var modes : represented.values()) {
+                BitSet missing = (BitSet) allModes.clone();
+                missing.andNot(modes);
 
-                if (modes.size() != failureModes.size()) {
+                if (!missing.isEmpty()) {
                     allRepresented = false;
                     break;
                 }
@@ -0,0 +1,47 @@
+package dev.reynard.junit.strategy.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns strings into dense int ids, and back. Lookups of known strings do
+ * not lock; only new strings are added under a lock. Ids are never released,
+ * so the table is meant for the bounded set of names of a system under test.
+ */
+public class SymbolTable {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+    private int size = 0;
+
+    public int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (this) {
+            id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+            }
+
+            // Store the name before publishing the id, so any reader of the id can resolve it
+            names[size] = value;
+            ids.put(value, size);
+            return size++;
+        }
+    }
+
+    public String get(int id) {
+        return names[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
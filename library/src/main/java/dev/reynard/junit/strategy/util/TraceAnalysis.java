@@ -1,12 +1,16 @@
 package dev.reynard.junit.strategy.util;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -36,8 +40,14 @@ public class TraceAnalysis {
     private boolean hasMultipleReports = false;
 
     // --- Parent-Child relations
-    TransativeRelation<FaultUid> parentChildRelation = new TransativeRelation<>();
-    UndirectedRelation<FaultUid> concurrentRelation = new UndirectedRelation<>();
+    private final TraceIndex index;
+    // --- Concurrency relations, only built when needed
+    private final List<TraceReport> allReports;
+    private UndirectedRelation<FaultUid> concurrentRelation;
+
+    // --- Traversals, computed once per order as every analyzer asks for them
+    private final Map<TraversalOrder, List<TraceReport>> reportsByOrder = new ConcurrentHashMap<>();
+    private final Map<TraversalOrder, List<FaultUid>> faultUidsByOrder = new ConcurrentHashMap<>();
 
     public TraceAnalysis(List<TraceReport> reports) {
         // Parent null indicates the root request
@@ -45,28 +55,22 @@ public class TraceAnalysis {
             analyseReport(report);
         }
 
+        allReports = reports;
+        index = new TraceIndex(this.reports);
+
         // Ensure all parents are reported
-        for (FaultUid uid : parentChildRelation.getElements()) {
+        for (FaultUid uid : index.getPoints()) {
             if (uid == null || uid.isRoot()) {
                 continue;
             }
 
-            if (!reportByPoint.containsKey(uid)) {
+            if (!index.hasReport(uid)) {
                 hasIncomplete = true;
                 logger.debug("Missing report for parent {}", uid);
             }
         }
     }
 
-    private void addParents(FaultUid uid) {
-        FaultUid current = uid;
-        while (current.hasParent()) {
-            FaultUid next = current.getParent();
-            parentChildRelation.addRelation(next, current);
-            current = next;
-        }
-    }
-
     private void analyseReport(TraceReport report) {
         // Save map of points by faultUid
         if (!reportByPoint.containsKey(report.injectionPoint)) {
@@ -82,18 +86,6 @@ public class TraceAnalysis {
             traceFaults.add(report.getFault());
         }
 
-        // Update parent-child relation
-        if (report.injectionPoint.hasParent()) {
-            addParents(report.injectionPoint);
-        }
-
-        // Update concurrent relations
-        if (report.concurrentTo != null) {
-            for (var concurrent : report.concurrentTo) {
-                concurrentRelation.addRelation(report.injectionPoint, concurrent);
-            }
-        }
-
         // Handle initial report
         if (report.isInitial) {
             if (rootReport != null && rootReport.response != null
@@ -138,8 +130,28 @@ public class TraceAnalysis {
         return traceFaults;
     }
 
+    private synchronized UndirectedRelation<FaultUid> getConcurrentRelation() {
+        if (concurrentRelation != null) {
+            return concurrentRelation;
+        }
+
+        UndirectedRelation<FaultUid> relation = new UndirectedRelation<>();
+        for (var report : allReports) {
+            if (report.concurrentTo == null) {
+                continue;
+            }
+
+            for (var concurrent : report.concurrentTo) {
+                relation.addRelation(report.injectionPoint, concurrent);
+            }
+        }
+
+        concurrentRelation = relation;
+        return relation;
+    }
+
     public Map<FaultUid, Set<FaultUid>> getAllConcurrent() {
-        return concurrentRelation.getRelations();
+        return getConcurrentRelation().getRelations();
     }
 
     public boolean hasFaultMode(String... orType) {
@@ -160,11 +172,7 @@ public class TraceAnalysis {
         return reports;
     }
 
-    public List<TraceReport> getReports(Set<FaultUid> faultUids) {
-        return getReports(List.copyOf(faultUids));
-    }
-
-    public List<TraceReport> getReports(List<FaultUid> faultUids) {
+    public List<TraceReport> getReports(Collection<FaultUid> faultUids) {
         List<TraceReport> reports = new ArrayList<>();
         for (var faultUid : faultUids) {
             var report = getReportByFaultUid(faultUid);
@@ -210,26 +218,15 @@ public class TraceAnalysis {
     }
 
     public List<Pair<FaultUid, FaultUid>> getParentsAndChildren() {
-        return parentChildRelation.getRelations();
+        return index.getRelations();
     }
 
     public List<Pair<FaultUid, FaultUid>> getParentsAndTransativeChildren() {
-        return parentChildRelation.getTransativeRelations();
+        return index.getTransativeRelations();
     }
 
     public FaultUid getParent(FaultUid faultUid) {
-        var parents = parentChildRelation.getParentsOf(faultUid);
-
-        if (parents.isEmpty()) {
-            return null; // No parent found
-        }
-
-        if (parents.size() > 1) {
-            // It should be a tree..
-            logger.warn("Multiple parents found for faultUid {}: {}", faultUid, parents);
-        }
-        // Return the first parent found
-        return Sets.getOnlyElement(parents);
+        return index.getParent(faultUid);
     }
 
     public TraceReport getParent(TraceReport faultUid) {
@@ -242,36 +239,32 @@ public class TraceAnalysis {
         return getReportByFaultUid(parent);
     }
 
-    public Set<FaultUid> getDecendants(FaultUid node) {
-        return parentChildRelation.getDecendants(node);
+    public List<FaultUid> getDecendants(FaultUid node) {
+        return index.getDecendants(node);
     }
 
     public List<TraceReport> getDecendants(TraceReport report) {
-        return getReports(getDecendants(report.injectionPoint));
+        return index.getDecendantReports(report.injectionPoint);
     }
 
-    public Set<FaultUid> getChildren(FaultUid node) {
-        return parentChildRelation.getChildren(node);
+    public List<FaultUid> getChildren(FaultUid node) {
+        return index.getChildren(node);
     }
 
     public List<TraceReport> getChildren(TraceReport report) {
-        return getReports(getChildren(report.injectionPoint));
+        return index.getChildReports(report.injectionPoint);
     }
 
-    public Set<FaultUid> getNeighbours(FaultUid child) {
-        FaultUid parent = getParent(child);
-        Set<FaultUid> neighbours = getChildren(parent);
-        neighbours.remove(child);
-        return neighbours;
+    public List<FaultUid> getNeighbours(FaultUid child) {
+        return index.getNeighbours(child);
     }
 
     public List<TraceReport> getNeighbours(TraceReport report) {
-        Set<FaultUid> neighbours = getNeighbours(report.injectionPoint);
-        return getReports(neighbours);
+        return index.getNeighbourReports(report.injectionPoint);
     }
 
     public boolean isDecendantOf(FaultUid parent, FaultUid child) {
-        return parentChildRelation.hasTransativeRelation(parent, child);
+        return index.isDecendantOf(parent, child);
     }
 
     public boolean isEqual(FaultUid fault1, FaultUid fault2) {
@@ -287,24 +280,28 @@ public class TraceAnalysis {
     }
 
     public boolean areConcurrent(FaultUid fault1, FaultUid fault2) {
-        return concurrentRelation.areRelated(fault1, fault2);
+        return getConcurrentRelation().areRelated(fault1, fault2);
     }
 
     public List<TraceReport> getReports(TraversalOrder strategy) {
+        // A random order should differ between calls
+        if (strategy == TraversalOrder.RANDOM) {
+            return computeReports(strategy);
+        }
+
+        return reportsByOrder.computeIfAbsent(strategy, this::computeReports);
+    }
+
+    private List<TraceReport> computeReports(TraversalOrder strategy) {
         var traversal = new TraversalStrategy<TraceReport>(strategy);
-        List<Pair<TraceReport, TraceReport>> edges = parentChildRelation.getRelations().stream()
-                .filter(pair -> pair.first() != null && pair.second() != null)
-                .filter(pair -> reportByPoint.containsKey(pair.first())
-                        && reportByPoint.containsKey(pair.second()))
-                .map(pair -> new Pair<TraceReport, TraceReport>(getReportByFaultUid(pair.first()),
-                        getReportByFaultUid(pair.second())))
-                .toList();
-        List<TraceReport> foundReports = traversal.traverse(rootReport, edges);
+        List<TraceReport> foundReports = traversal.traverse(rootReport, this::getChildren);
 
         // ensure each known fault is present, not just those in the tree
+        Set<TraceReport> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(foundReports);
         int missing = 0;
         for (var report : reports) {
-            if (!foundReports.contains(report)) {
+            if (found.add(report)) {
                 foundReports.add(report);
                 missing++;
             }
@@ -314,17 +311,26 @@ public class TraceAnalysis {
             logger.warn("Missing " + missing + " reports in trace tree!");
         }
 
-        return foundReports;
+        return Collections.unmodifiableList(foundReports);
     }
 
     public List<FaultUid> getFaultUids(TraversalOrder strategy) {
+        if (strategy == TraversalOrder.RANDOM) {
+            return computeFaultUids(strategy);
+        }
+
+        return faultUidsByOrder.computeIfAbsent(strategy, this::computeFaultUids);
+    }
+
+    private List<FaultUid> computeFaultUids(TraversalOrder strategy) {
         var traversal = new TraversalStrategy<FaultUid>(strategy);
-        List<FaultUid> foundFaults = traversal.traverse(rootReport.injectionPoint, parentChildRelation.getRelations());
+        List<FaultUid> foundFaults = traversal.traverse(rootReport.injectionPoint, this::getChildren);
 
         // ensure each known fault is present, not just those in the tree
+        Set<FaultUid> found = new HashSet<>(foundFaults);
         int missing = 0;
         for (var fp : faultUids) {
-            if (!foundFaults.contains(fp)) {
+            if (found.add(fp)) {
                 foundFaults.add(fp);
                 missing++;
             }
@@ -334,22 +340,15 @@ public class TraceAnalysis {
             logger.warn("Missing " + missing + " faultUids in trace tree!");
         }
 
-        return foundFaults;
+        return Collections.unmodifiableList(foundFaults);
     }
 
     public void traverseReports(TraversalOrder strategy, boolean includeInitial, Consumer<TraceReport> consumer) {
-        Consumer<FaultUid> mappedConsumer = (faultUid) -> {
-            var report = getReportByFaultUid(faultUid);
-            if (report != null) {
+        for (var report : getReports(strategy)) {
+            if (includeInitial || !report.isInitial) {
                 consumer.accept(report);
             }
-        };
-
-        List<TraceReport> reports = getReports(strategy);
-        reports.stream()
-                .filter(report -> includeInitial || !report.isInitial)
-                .map(report -> report.injectionPoint)
-                .forEach(mappedConsumer);
+        }
     }
 
 }
@@ -0,0 +1,342 @@
+package dev.reynard.junit.strategy.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+
+/**
+ * Array-backed call tree of a trace. Every point (including parents without a
+ * report) gets an index; children are stored as contiguous ranges, so child
+ * queries are slices without copying, and neighbour queries are views over a
+ * slice that skip a single element. The pre-order numbering, used for
+ * descendant queries, is only computed when it is first needed.
+ */
+public class TraceIndex {
+    private static final int NONE = -1;
+
+    private final Map<FaultUid, Integer> indexOf = new HashMap<>();
+    private final FaultUid[] uids;
+    private final TraceReport[] reportOf;
+    private final int[] parent;
+
+    // Children of node i are children[childStart[i] .. childStart[i + 1]]
+    private final int[] childStart;
+    private final int[] childIndex;
+    private final List<FaultUid> children;
+    // Offset of node i in the children of its parent
+    private final int[] childOffset;
+    // Reported children of node i are reportedChildren[reportStart[i] .. reportStart[i + 1]]
+    private final int[] reportStart;
+    private final List<TraceReport> reportedChildren;
+    // Offset of node i in the reported children of its parent, if it has a report
+    private final int[] reportOffset;
+
+    // Lazily computed: descendants of node i are preOrder[pre[i] + 1 .. subtreeEnd[i]]
+    private volatile int[] pre;
+    private int[] subtreeEnd;
+    private List<FaultUid> preOrder;
+    // Reported descendants of node i are preOrderReports[reportsBefore[pre[i] + 1] .. reportsBefore[subtreeEnd[i]]]
+    private List<TraceReport> preOrderReports;
+    private int[] reportsBefore;
+
+    public TraceIndex(List<TraceReport> reports) {
+        List<FaultUid> nodes = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        List<List<Integer>> childLists = new ArrayList<>();
+
+        for (var report : reports) {
+            FaultUid current = report.injectionPoint;
+            int currentIndex = addNode(current, nodes, parents, childLists);
+
+            // Link all ancestors, until we reach a known link
+            while (current.hasParent() && parents.get(currentIndex) == NONE) {
+                FaultUid next = current.getParent();
+                int nextIndex = addNode(next, nodes, parents, childLists);
+                parents.set(currentIndex, nextIndex);
+                childLists.get(nextIndex).add(currentIndex);
+
+                current = next;
+                currentIndex = nextIndex;
+            }
+        }
+
+        int size = nodes.size();
+        uids = nodes.toArray(FaultUid[]::new);
+        reportOf = new TraceReport[size];
+        parent = new int[size];
+
+        for (var report : reports) {
+            int index = indexOf.get(report.injectionPoint);
+            if (reportOf[index] == null) {
+                reportOf[index] = report;
+            }
+        }
+
+        childStart = new int[size + 1];
+        reportStart = new int[size + 1];
+        childIndex = new int[size];
+        childOffset = new int[size];
+        reportOffset = new int[size];
+        Arrays.fill(childOffset, NONE);
+        Arrays.fill(reportOffset, NONE);
+        FaultUid[] childArray = new FaultUid[size];
+        List<TraceReport> reportedArray = new ArrayList<>();
+        int offset = 0;
+
+        for (int i = 0; i < size; i++) {
+            parent[i] = parents.get(i);
+            childStart[i] = offset;
+            reportStart[i] = reportedArray.size();
+
+            for (int child : childLists.get(i)) {
+                childIndex[offset] = child;
+                childOffset[child] = offset;
+                childArray[offset++] = uids[child];
+
+                if (reportOf[child] != null) {
+                    reportOffset[child] = reportedArray.size();
+                    reportedArray.add(reportOf[child]);
+                }
+            }
+        }
+
+        childStart[size] = offset;
+        reportStart[size] = reportedArray.size();
+        children = Collections.unmodifiableList(Arrays.asList(childArray).subList(0, offset));
+        reportedChildren = Collections.unmodifiableList(reportedArray);
+    }
+
+    private int addNode(FaultUid uid, List<FaultUid> nodes, List<Integer> parents, List<List<Integer>> childLists) {
+        Integer existing = indexOf.get(uid);
+        if (existing != null) {
+            return existing;
+        }
+
+        int index = nodes.size();
+        indexOf.put(uid, index);
+        nodes.add(uid);
+        parents.add(NONE);
+        childLists.add(new ArrayList<>());
+        return index;
+    }
+
+    public int size() {
+        return uids.length;
+    }
+
+    public List<FaultUid> getPoints() {
+        return List.of(uids);
+    }
+
+    public boolean hasReport(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        return index != null && reportOf[index] != null;
+    }
+
+    public FaultUid getParent(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null || parent[index] == NONE) {
+            return null;
+        }
+
+        return uids[parent[index]];
+    }
+
+    public List<FaultUid> getChildren(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null) {
+            return List.of();
+        }
+
+        return children.subList(childStart[index], childStart[index + 1]);
+    }
+
+    public List<TraceReport> getChildReports(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null) {
+            return List.of();
+        }
+
+        return reportedChildren.subList(reportStart[index], reportStart[index + 1]);
+    }
+
+    /** All children of the parent of uid, except uid itself */
+    public List<FaultUid> getNeighbours(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null || parent[index] == NONE) {
+            return List.of();
+        }
+
+        int parentIndex = parent[index];
+        List<FaultUid> siblings = children.subList(childStart[parentIndex], childStart[parentIndex + 1]);
+        return new Without<>(siblings, childOffset[index] - childStart[parentIndex]);
+    }
+
+    /** All reported children of the parent of uid, except the report of uid */
+    public List<TraceReport> getNeighbourReports(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null || parent[index] == NONE) {
+            return List.of();
+        }
+
+        int parentIndex = parent[index];
+        List<TraceReport> siblings = reportedChildren.subList(reportStart[parentIndex], reportStart[parentIndex + 1]);
+        if (reportOffset[index] == NONE) {
+            return siblings;
+        }
+
+        return new Without<>(siblings, reportOffset[index] - reportStart[parentIndex]);
+    }
+
+    public List<FaultUid> getDecendants(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null) {
+            return List.of();
+        }
+
+        int[] order = getPreOrder();
+        return preOrder.subList(order[index] + 1, subtreeEnd[index]);
+    }
+
+    public List<TraceReport> getDecendantReports(FaultUid uid) {
+        Integer index = indexOf.get(uid);
+        if (index == null) {
+            return List.of();
+        }
+
+        int[] order = getPreOrder();
+        return preOrderReports.subList(reportsBefore[order[index] + 1], reportsBefore[subtreeEnd[index]]);
+    }
+
+    public boolean isDecendantOf(FaultUid ancestor, FaultUid uid) {
+        Integer ancestorIndex = indexOf.get(ancestor);
+        Integer index = indexOf.get(uid);
+        if (ancestorIndex == null || index == null) {
+            return false;
+        }
+
+        int[] order = getPreOrder();
+        return order[ancestorIndex] < order[index] && order[index] < subtreeEnd[ancestorIndex];
+    }
+
+    public List<Pair<FaultUid, FaultUid>> getRelations() {
+        List<Pair<FaultUid, FaultUid>> relations = new ArrayList<>();
+        for (int i = 0; i < uids.length; i++) {
+            for (var child : children.subList(childStart[i], childStart[i + 1])) {
+                relations.add(new Pair<>(uids[i], child));
+            }
+        }
+        return relations;
+    }
+
+    public List<Pair<FaultUid, FaultUid>> getTransativeRelations() {
+        List<Pair<FaultUid, FaultUid>> relations = new ArrayList<>();
+        for (var uid : uids) {
+            for (var decendant : getDecendants(uid)) {
+                relations.add(new Pair<>(uid, decendant));
+            }
+        }
+        return relations;
+    }
+
+    private int[] getPreOrder() {
+        int[] order = pre;
+        if (order != null) {
+            return order;
+        }
+
+        synchronized (this) {
+            if (pre == null) {
+                computePreOrder();
+            }
+            return pre;
+        }
+    }
+
+    private void computePreOrder() {
+        int size = uids.length;
+        int[] order = new int[size];
+        int[] end = new int[size];
+        FaultUid[] sequence = new FaultUid[size];
+        int counter = 0;
+
+        // Iterative depth-first walk from every root, as traces can be deep
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+
+        for (int root = 0; root < size; root++) {
+            if (parent[root] != NONE) {
+                continue;
+            }
+
+            int depth = 0;
+            stack[depth] = root;
+            nextChild[root] = childStart[root];
+            order[root] = counter;
+            sequence[counter++] = uids[root];
+
+            while (depth >= 0) {
+                int node = stack[depth];
+
+                if (nextChild[node] < childStart[node + 1]) {
+                    int child = childIndex[nextChild[node]++];
+                    nextChild[child] = childStart[child];
+                    order[child] = counter;
+                    sequence[counter++] = uids[child];
+                    stack[++depth] = child;
+                } else {
+                    end[node] = counter;
+                    depth--;
+                }
+            }
+        }
+
+        // Prefix counts of reported points, to slice the reports in pre-order
+        int[] before = new int[size + 1];
+        List<TraceReport> reports = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            before[i] = reports.size();
+            TraceReport report = reportOf[indexOf.get(sequence[i])];
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        before[size] = reports.size();
+
+        subtreeEnd = end;
+        preOrder = Collections.unmodifiableList(Arrays.asList(sequence));
+        preOrderReports = Collections.unmodifiableList(reports);
+        reportsBefore = before;
+        // Publish last, other threads read the fields after seeing this
+        pre = order;
+    }
+
+    /** Read-only view of a list, without the element at a single position */
+    private static class Without<T> extends AbstractList<T> implements RandomAccess {
+        private final List<T> list;
+        private final int skip;
+
+        Without(List<T> list, int skip) {
+            this.list = list;
+            this.skip = skip;
+        }
+
+        @Override
+        public T get(int i) {
+            return list.get(i < skip ? i : i + 1);
+        }
+
+        @Override
+        public int size() {
+            return list.size() - 1;
+        }
+    }
+}
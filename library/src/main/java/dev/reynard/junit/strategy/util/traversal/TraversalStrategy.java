@@ -1,10 +1,15 @@
 package dev.reynard.junit.strategy.util.traversal;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import dev.reynard.junit.strategy.util.Pair;
 
@@ -16,6 +21,32 @@ public class TraversalStrategy<X> {
     }
 
     public List<X> traverse(X root, List<Pair<X, X>> edges) {
+        if (mode == TraversalOrder.RANDOM) {
+            Set<X> nodes = new LinkedHashSet<>();
+            for (Pair<X, X> edge : edges) {
+                nodes.add(edge.first());
+                nodes.add(edge.second());
+            }
+
+            List<X> shuffled = new ArrayList<>(nodes);
+            Collections.shuffle(shuffled);
+            return shuffled;
+        }
+
+        // Index the edges once, instead of scanning them for every node
+        Map<X, List<X>> adjacency = new LinkedHashMap<>();
+        for (Pair<X, X> edge : edges) {
+            adjacency.computeIfAbsent(edge.first(), k -> new ArrayList<>()).add(edge.second());
+        }
+
+        return traverse(root, node -> adjacency.getOrDefault(node, List.of()));
+    }
+
+    /**
+     * Traverse the graph reachable from the root, where children returns the
+     * direct successors of a node.
+     */
+    public List<X> traverse(X root, Function<X, List<X>> children) {
         // Ensure that we only visit each node once
         // In case of cycles, this will prevent infinite loops
 
@@ -26,25 +57,21 @@ public class TraversalStrategy<X> {
                     DEPTH_FIRST_REVERSE_POST_ORDER -> {
                 Set<X> visited = new LinkedHashSet<>();
                 visited.add(root);
-                return visitNodeDfs(root, edges, visited);
+                List<X> result = new ArrayList<>();
+                visitNodeDfs(root, children, visited, result);
+                return result;
             }
 
             case BREADTH_FIRST -> {
-                return visitNodeBfs(root, edges, false);
+                return visitNodeBfs(root, children, false);
             }
 
             case BREADTH_FIRST_REVERSE -> {
-                return visitNodeBfs(root, edges, true);
+                return visitNodeBfs(root, children, true);
             }
 
             case RANDOM -> {
-                Set<X> nodes = new LinkedHashSet<>();
-                for (Pair<X, X> edge : edges) {
-                    nodes.add(edge.first());
-                    nodes.add(edge.second());
-                }
-
-                List<X> shuffled = new ArrayList<>(nodes);
+                List<X> shuffled = visitNodeBfs(root, children, false);
                 Collections.shuffle(shuffled);
                 return shuffled;
             }
@@ -55,107 +82,81 @@ public class TraversalStrategy<X> {
         }
     }
 
-    private List<X> getChildren(X node, List<Pair<X, X>> edges, Set<X> visited) {
-        List<X> children = new ArrayList<>();
-
-        for (Pair<X, X> edge : edges) {
-            if (edge.first().equals(node)) {
-                var child = edge.second();
-                if (!visited.contains(child)) {
-                    visited.add(child);
-                    children.add(child);
-                }
-            }
-        }
-
-        return children;
-    }
-
-    private List<X> getChildren(X node, List<Pair<X, X>> edges) {
-        List<X> children = new ArrayList<>();
+    private List<X> getUnvisitedChildren(X node, Function<X, List<X>> children, Set<X> visited) {
+        List<X> unvisited = new ArrayList<>();
 
-        for (Pair<X, X> edge : edges) {
-            if (edge.first().equals(node)) {
-                var child = edge.second();
-                children.add(child);
+        for (X child : children.apply(node)) {
+            if (visited.add(child)) {
+                unvisited.add(child);
             }
         }
 
-        return children;
+        return unvisited;
     }
 
-    private List<X> visitNodeBfs(X node, List<Pair<X, X>> edges, boolean reversed) {
+    private List<X> visitNodeBfs(X node, Function<X, List<X>> children, boolean reversed) {
         List<X> result = new ArrayList<>();
-        List<X> queue = new ArrayList<>();
+        Deque<X> queue = new ArrayDeque<>();
 
         Set<X> visited = new LinkedHashSet<>();
         queue.add(node);
 
         while (!queue.isEmpty()) {
-            X currentNode = queue.remove(0);
+            X currentNode = queue.poll();
 
-            if (visited.contains(currentNode)) {
+            if (!visited.add(currentNode)) {
                 continue; // Skip already visited nodes
             }
 
-            visited.add(currentNode);
             result.add(currentNode);
 
-            List<X> children = getChildren(currentNode, edges);
+            List<X> nodeChildren = children.apply(currentNode);
             if (reversed) {
-                Collections.reverse(children); // Reverse the order of children if needed
+                // Reverse the order of children if needed
+                for (int i = nodeChildren.size() - 1; i >= 0; i--) {
+                    queue.add(nodeChildren.get(i));
+                }
+            } else {
+                queue.addAll(nodeChildren);
             }
-            queue.addAll(children);
         }
 
         return result;
     }
 
-    private List<X> visitNodeDfs(X node, List<Pair<X, X>> edges, Set<X> visited) {
-        List<X> children = getChildren(node, edges, visited);
+    private void visitNodeDfs(X node, Function<X, List<X>> children, Set<X> visited, List<X> result) {
+        List<X> nodeChildren = getUnvisitedChildren(node, children, visited);
 
         switch (mode.getNodeOrder()) {
             case PRE_ORDER -> {
-                List<X> result = new ArrayList<>();
                 result.add(node);
-                for (X child : children) {
-                    result.addAll(visitNodeDfs(child, edges, visited));
+                for (X child : nodeChildren) {
+                    visitNodeDfs(child, children, visited, result);
                 }
-                return result;
             }
+
             case POST_ORDER -> {
-                List<X> postOrderResult = new ArrayList<>();
-                for (X child : children) {
-                    postOrderResult.addAll(visitNodeDfs(child, edges, visited));
+                for (X child : nodeChildren) {
+                    visitNodeDfs(child, children, visited, result);
                 }
-                postOrderResult.add(node);
-                return postOrderResult;
+                result.add(node);
             }
 
             case REVERSE_PRE_ORDER -> {
-                List<X> reversePreOrderResult = new ArrayList<>();
-                reversePreOrderResult.add(node);
-
-                for (int i = children.size() - 1; i >= 0; i--) {
-                    reversePreOrderResult.addAll(visitNodeDfs(children.get(i), edges, visited));
+                result.add(node);
+                for (int i = nodeChildren.size() - 1; i >= 0; i--) {
+                    visitNodeDfs(nodeChildren.get(i), children, visited, result);
                 }
-
-                return reversePreOrderResult;
             }
 
             case REVERSE_POST_ORDER -> {
-                List<X> reversePostOrderResult = new ArrayList<>();
-
-                for (int i = children.size() - 1; i >= 0; i--) {
-                    reversePostOrderResult.addAll(visitNodeDfs(children.get(i), edges, visited));
+                for (int i = nodeChildren.size() - 1; i >= 0; i--) {
+                    visitNodeDfs(nodeChildren.get(i), children, visited, result);
                 }
-
-                reversePostOrderResult.add(node);
-                return reversePostOrderResult;
+                result.add(node);
             }
 
             default -> throw new IllegalArgumentException("Unknown node order: " + mode.getNodeOrder());
         }
-
     }
 }
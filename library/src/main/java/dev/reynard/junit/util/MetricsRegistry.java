@@ -0,0 +1,215 @@
+package dev.reynard.junit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.reynard.junit.strategy.util.Histogram;
+
+/**
+ * Registry of named timers, counters and gauges. Handles are looked up once and can
+ * then be updated from any thread without locking. Timers only keep a
+ * histogram of their samples, unless raw values are requested.
+ */
+public class MetricsRegistry {
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    // Registration order, for reporting
+    private final Queue<Timer> timerOrder = new ConcurrentLinkedQueue<>();
+    private final Queue<Counter> counterOrder = new ConcurrentLinkedQueue<>();
+    private final Queue<Gauge> gaugeOrder = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean sampling = true;
+    private volatile boolean keepValues = false;
+
+    public MetricsRegistry withSampling(boolean sampling) {
+        this.sampling = sampling;
+        return this;
+    }
+
+    public MetricsRegistry withValues(boolean keepValues) {
+        this.keepValues = keepValues;
+        return this;
+    }
+
+    public boolean isSampling() {
+        return sampling;
+    }
+
+    public Timer timer(String tag) {
+        Timer timer = timers.get(tag);
+        if (timer != null) {
+            return timer;
+        }
+
+        return timers.computeIfAbsent(tag, x -> {
+            Timer created = new Timer(x);
+            timerOrder.add(created);
+            return created;
+        });
+    }
+
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+
+        return counters.computeIfAbsent(name, x -> {
+            Counter created = new Counter(x);
+            counterOrder.add(created);
+            return created;
+        });
+    }
+
+    public Gauge gauge(String name) {
+        Gauge gauge = gauges.get(name);
+        if (gauge != null) {
+            return gauge;
+        }
+
+        return gauges.computeIfAbsent(name, x -> {
+            Gauge created = new Gauge(x);
+            gaugeOrder.add(created);
+            return created;
+        });
+    }
+
+    public List<Timer> getTimers() {
+        return new ArrayList<>(timerOrder);
+    }
+
+    public List<Counter> getCounters() {
+        return new ArrayList<>(counterOrder);
+    }
+
+    public List<Gauge> getGauges() {
+        return new ArrayList<>(gaugeOrder);
+    }
+
+    /** Clear all recorded values, but keep the registered handles valid. */
+    public void reset() {
+        for (var timer : timerOrder) {
+            timer.histogram.reset();
+            timer.values.clear();
+        }
+
+        for (var counter : counterOrder) {
+            counter.value.reset();
+        }
+
+        for (var gauge : gaugeOrder) {
+            gauge.value.set(0);
+        }
+    }
+
+    public class Timer {
+        private final String tag;
+        private final Histogram histogram = new Histogram();
+        private final Queue<Long> values = new ConcurrentLinkedQueue<>();
+
+        private Timer(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        /** Start a sample, pass the result to {@link #stop(long)}. */
+        public long start() {
+            return sampling ? System.nanoTime() : NOT_SAMPLED;
+        }
+
+        public void stop(long start) {
+            if (start == NOT_SAMPLED) {
+                return;
+            }
+
+            record(System.nanoTime() - start);
+        }
+
+        public void record(long durationNs) {
+            histogram.record(Math.max(0, durationNs));
+
+            if (keepValues) {
+                values.add(durationNs);
+            }
+        }
+
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        public long getMin() {
+            return histogram.getMin();
+        }
+
+        public long getMax() {
+            return histogram.getMax();
+        }
+
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        public long getValueAtPercentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile);
+        }
+
+        public List<Long> getValues() {
+            return new ArrayList<>(values);
+        }
+    }
+
+    public class Counter {
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void increment(long count) {
+            value.add(count);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /** The last value set, such as the current size of a collection. */
+    public class Gauge {
+        private final String name;
+        private final AtomicLong value = new AtomicLong();
+
+        private Gauge(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void set(long value) {
+            this.value.set(value);
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.reynard.junit.util.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reynard.Analyze")
+@Label("Analyze Result")
+@Description("A component handling the feedback of a test result")
+@Category({ "Reynard", "Strategy" })
+@StackTrace(false)
+public class AnalyzeEvent extends jdk.jfr.Event {
+    @Label("Component")
+    public String component;
+
+    @Label("Trace Id")
+    public String traceId;
+
+    @Label("Faultload Size")
+    public int faultloadSize;
+}
@@ -0,0 +1,38 @@
+package dev.reynard.junit.util.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reynard.ControllerCall")
+@Label("Controller Call")
+@Description("An HTTP call to the Reynard controller")
+@Category({ "Reynard", "Controller" })
+@StackTrace(false)
+public class ControllerCallEvent extends jdk.jfr.Event {
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Trace Id")
+    public String traceId;
+
+    @Label("Faultload Size")
+    public int faultloadSize;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Status Code")
+    public int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+}
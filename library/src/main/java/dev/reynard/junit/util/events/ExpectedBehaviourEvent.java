@@ -0,0 +1,27 @@
+package dev.reynard.junit.util.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reynard.ExpectedBehaviour")
+@Label("Expected Behaviour")
+@Description("A query of the learned model for the expected behaviour under a faultload")
+@Category({ "Reynard", "Strategy" })
+@StackTrace(false)
+public class ExpectedBehaviourEvent extends jdk.jfr.Event {
+    @Label("Query")
+    @Description("Either behaviours or points")
+    public String query;
+
+    @Label("Component")
+    public String component;
+
+    @Label("Faultload Size")
+    public int faultloadSize;
+
+    @Label("Result Size")
+    public int resultSize;
+}
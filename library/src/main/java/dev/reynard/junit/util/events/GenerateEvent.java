@@ -0,0 +1,21 @@
+package dev.reynard.junit.util.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reynard.Generate")
+@Label("Generate Faultload")
+@Description("A call to the generator for the next candidate faultload")
+@Category({ "Reynard", "Strategy" })
+@StackTrace(false)
+public class GenerateEvent extends jdk.jfr.Event {
+    @Label("Generator")
+    public String generator;
+
+    @Label("Faultload Size")
+    @Description("Number of faults in the generated faultload, or -1 if the generator is exhausted")
+    public int faultloadSize;
+}
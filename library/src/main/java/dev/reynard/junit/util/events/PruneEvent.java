@@ -0,0 +1,23 @@
+package dev.reynard.junit.util.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reynard.Prune")
+@Label("Prune Faultload")
+@Description("A single pruner deciding on the redundancy of a faultload")
+@Category({ "Reynard", "Strategy" })
+@StackTrace(false)
+public class PruneEvent extends jdk.jfr.Event {
+    @Label("Pruner")
+    public String pruner;
+
+    @Label("Decision")
+    public String decision;
+
+    @Label("Faultload Size")
+    public int faultloadSize;
+}
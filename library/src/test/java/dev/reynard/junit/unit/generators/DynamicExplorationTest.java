@@ -2,20 +2,20 @@ package dev.reynard.junit.unit.generators;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
 import org.junit.jupiter.api.Test;
 
-import dev.reynard.junit.faultload.Behaviour;
 import dev.reynard.junit.faultload.Faultload;
-import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
-import dev.reynard.junit.instrumentation.trace.tree.TraceResponse;
+import dev.reynard.junit.instrumentation.SimulatedController;
 import dev.reynard.junit.strategy.FaultloadResult;
 import dev.reynard.junit.strategy.TrackedFaultload;
 import dev.reynard.junit.strategy.components.PruneDecision;
 import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
-import dev.reynard.junit.strategy.store.ImplicationsModel;
 import dev.reynard.junit.strategy.store.ImplicationsStore;
 import dev.reynard.junit.strategy.util.TraceAnalysis;
 import dev.reynard.junit.util.EventBuilder;
@@ -24,41 +24,10 @@ import dev.reynard.junit.util.FailureModes;
 public class DynamicExplorationTest {
 
     public static FaultloadResult toResult(Faultload f, ImplicationsStore store) {
-        var root = store.getRootCause();
-        List<TraceReport> reports = new ArrayList<>();
-        var model = new ImplicationsModel(store);
-        for (var behav : model.getBehaviours(f.faultSet())) {
-            TraceReport report = asReport(behav, f);
-            if (behav.uid().matches(root)) {
-                report.isInitial = true;
-            }
-            reports.add(report);
-        }
-
-        TraceAnalysis trace = new TraceAnalysis(reports);
+        TraceAnalysis trace = new SimulatedController(store).getTrace(f);
         return new FaultloadResult(new TrackedFaultload(f), trace, true);
     }
 
-    public static TraceReport asReport(Behaviour behaviour, Faultload f) {
-        TraceReport report = new TraceReport();
-        report.traceId = "";
-        report.spanId = "";
-        report.injectionPoint = behaviour.uid();
-        report.concurrentTo = List.of();
-        report.injectedFault = f.faultSet().stream()
-                .filter(x -> x.uid().matches(behaviour.uid()))
-                .findFirst()
-                .orElse(null);
-        int code = behaviour.mode() == null ? 200 : Integer.parseInt(behaviour.mode().args().get(0));
-
-        TraceResponse response = new TraceResponse();
-        response.status = code;
-        response.body = "";
-        response.durationMs = 1;
-        report.response = response;
-        return report;
-    }
-
     private List<Faultload> playout(DynamicExplorationGenerator generator, ImplicationsStore store) {
         Faultload base = new Faultload(Set.of());
         FaultloadResult result = toResult(base, store);
@@ -222,4 +191,50 @@ public class DynamicExplorationTest {
         // [], B, B1, Binf
         assertEquals(4, result.size());
     }
+
+    private void collectIndexes(Map<String, Object> node, List<Integer> indexes) {
+        indexes.add((Integer) node.get("index"));
+
+        @SuppressWarnings("unchecked")
+        var children = (List<Map<String, Object>>) node.get("children");
+        if (children != null) {
+            for (var child : children) {
+                collectIndexes(child, indexes);
+            }
+        }
+    }
+
+    @Test
+    public void testReportTree() {
+        var modes = FailureModes.getModes(1);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore store = new ImplicationsStore();
+        store.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        store.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        DynamicExplorationGenerator generator = new DynamicExplorationGenerator(modes, x -> PruneDecision.KEEP);
+        var result = playout(generator, store);
+
+        @SuppressWarnings("unchecked")
+        var report = (Map<String, Object>) generator.report(null);
+        @SuppressWarnings("unchecked")
+        var tree = (Map<String, Object>) report.get("tree");
+        @SuppressWarnings("unchecked")
+        var visited = (List<Object>) ((Map<String, Object>) report.get("visited")).get("in_order");
+
+        List<Integer> indexes = new ArrayList<>();
+        collectIndexes(tree, indexes);
+
+        // Every visited faultload appears exactly once in the tree
+        assertEquals(result.size(), visited.size());
+        assertEquals(0, (int) indexes.get(0));
+        assertEquals(Set.copyOf(IntStream.range(0, result.size()).boxed().toList()),
+                indexes.stream().filter(i -> i >= 0).collect(Collectors.toSet()));
+        assertEquals(result.size(), indexes.stream().filter(i -> i >= 0).count());
+    }
 }
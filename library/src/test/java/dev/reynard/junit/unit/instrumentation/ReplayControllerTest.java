@@ -0,0 +1,107 @@
+package dev.reynard.junit.unit.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.instrumentation.RecordingController;
+import dev.reynard.junit.instrumentation.ReplayController;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyCheckpoint;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+import dev.reynard.junit.util.EventBuilder;
+
+public class ReplayControllerTest {
+    private final FailureMode mode = ErrorFault.fromError(HttpError.BAD_GATEWAY);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+
+        Path recordFile = tempDir.resolve("recording.ndjson");
+        var recorder = new RecordingController(new SimulatedController(model), recordFile);
+
+        var initial = new Faultload(Set.of());
+        var withFault = new Faultload(Set.of(new Fault(b.uid(), mode)));
+        TraceAnalysis recordedInitial = recorder.getTrace(new TrackedFaultload(initial));
+        TraceAnalysis recordedFault = recorder.getTrace(new TrackedFaultload(withFault));
+
+        var replay = new ReplayController(recordFile);
+        assertEquals(2, replay.size());
+
+        // Replayed by faultload, not by trace id
+        TraceAnalysis replayedFault = replay.getTrace(new TrackedFaultload(withFault));
+        assertEquals(recordedFault.getFaultUids(), replayedFault.getFaultUids());
+        assertEquals(recordedFault.getBehaviours(), replayedFault.getBehaviours());
+        assertEquals(Set.of(new Fault(b.uid(), mode)), replayedFault.getInjectedFaults());
+
+        TraceAnalysis replayedInitial = replay.getTrace(new TrackedFaultload(initial));
+        assertEquals(recordedInitial.getBehaviours(), replayedInitial.getBehaviours());
+        assertTrue(replay.getUnknownFaultloads().isEmpty());
+    }
+
+    @Test
+    public void testUnknownFaultload() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid()));
+
+        Path recordFile = tempDir.resolve("recording.ndjson");
+        var recorder = new RecordingController(new SimulatedController(model), recordFile);
+        recorder.getTrace(new TrackedFaultload());
+
+        var replay = new ReplayController(recordFile);
+        var unknown = new Faultload(Set.of(new Fault(b.uid(), mode)));
+
+        assertThrows(IOException.class, () -> replay.getTrace(new TrackedFaultload(unknown)));
+        assertEquals(List.of(unknown), replay.getUnknownFaultloads());
+    }
+
+    @Test
+    public void testReplayCheckpoint() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid()));
+        var controller = new SimulatedController(model);
+
+        Path checkpointFile = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        var checkpoint = new StrategyCheckpoint(checkpointFile);
+        var initial = new TrackedFaultload();
+        var withFault = new TrackedFaultload(new Faultload(Set.of(new Fault(b.uid(), mode))));
+        checkpoint.append(new FaultloadResult(initial, controller.getTrace(initial), true));
+        checkpoint.append(new FaultloadResult(withFault, controller.getTrace(withFault), false));
+
+        // Checkpoint entries carry a verdict, which the replay ignores
+        var replay = new ReplayController(checkpointFile);
+        assertEquals(2, replay.size());
+        assertEquals(controller.getTrace(withFault).getBehaviours(), replay.getTrace(withFault).getBehaviours());
+    }
+}
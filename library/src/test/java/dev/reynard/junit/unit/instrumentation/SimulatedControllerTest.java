@@ -0,0 +1,119 @@
+package dev.reynard.junit.unit.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.util.EventBuilder;
+
+public class SimulatedControllerTest {
+    private final FailureMode mode = ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE);
+
+    @Test
+    public void testHappyPath() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+
+        var controller = new SimulatedController(model).withLatency(x -> 5f);
+        var faultload = new TrackedFaultload();
+        TraceAnalysis trace = controller.getTrace(faultload);
+
+        assertEquals(3, trace.getReports().size());
+        assertEquals(a.uid(), trace.getRootReport().injectionPoint);
+        assertTrue(trace.getReportedFaults().isEmpty());
+
+        for (var report : trace.getReports()) {
+            assertEquals(faultload.getTraceId(), report.traceId);
+            assertEquals(200, report.response.status);
+            assertEquals(5f, report.response.durationMs, 0.0f);
+        }
+    }
+
+    @Test
+    public void testInjectedFaultWithFallback() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var fallback = a.createChild("D");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        // B failing causes a fallback to D
+        model.addInclusionEffect(Set.of(b.behaviour().asMode(mode)), fallback.uid());
+
+        var controller = new SimulatedController(model);
+        Fault fault = new Fault(b.uid(), mode);
+        TraceAnalysis trace = controller.getTrace(new TrackedFaultload(new Faultload(Set.of(fault))));
+
+        assertEquals(4, trace.getReports().size());
+        assertEquals(Set.of(fault), trace.getInjectedFaults());
+        assertEquals(503, trace.getReportByFaultUid(b.uid()).response.status);
+        assertEquals(200, trace.getReportByFaultUid(fallback.uid()).response.status);
+    }
+
+    @Test
+    public void testFullRunner() throws Exception {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        var controller = new SimulatedController(model);
+        StrategyRunner runner = new StrategyRunner(List.of(mode));
+        runner
+                .withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                        TraversalOrder.DEPTH_FIRST_POST_ORDER, true))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector())
+                .withComponent(new HappensBeforeNeighbourDetector())
+                .withComponent(new ErrorPropagationDetector())
+                .withComponent(new DynamicReductionPruner());
+
+        int runs = 0;
+        while (true) {
+            TrackedFaultload faultload = runner.nextFaultload();
+            if (faultload == null) {
+                break;
+            }
+
+            runs++;
+            controller.withFaultload(faultload, () -> null);
+            runner.handleResult(new FaultloadResult(faultload, controller.getTrace(faultload), true));
+        }
+
+        // D failing has no upstream effect, so B&D is pruned
+        // [], B, D, C, B&C
+        assertEquals(5, runs);
+        assertEquals(3, runner.getStore().getPoints().size());
+    }
+}
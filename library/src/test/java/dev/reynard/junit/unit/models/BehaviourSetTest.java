@@ -0,0 +1,85 @@
+package dev.reynard.junit.unit.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.faultload.Behaviour;
+import dev.reynard.junit.faultload.BehaviourSet;
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.Predecessors;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+
+public class BehaviourSetTest {
+    private static final FailureMode mode = ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE);
+    private static final FaultInjectionPoint pointA = new FaultInjectionPoint("A", "a1", "", Map.of(), 0);
+    private static final FaultUid uidB = new FaultUid(List.of(pointA,
+            new FaultInjectionPoint("B", "b1", "", Map.of(), 0)));
+    private static final FaultUid uidC = new FaultUid(List.of(pointA,
+            new FaultInjectionPoint("C", "c1", "", Map.of(), 0)));
+
+    @Test
+    public void testConcrete() {
+        var b = new Behaviour(uidB, mode);
+        var c = new Behaviour(uidC, mode);
+
+        assertTrue(b.isConcrete());
+        assertTrue(Behaviour.isSubsetOf(Set.of(b), BehaviourSet.of(Set.of(b, c))));
+        assertFalse(Behaviour.isSubsetOf(Set.of(b), BehaviourSet.of(Set.of(c))));
+        assertFalse(Behaviour.isSubsetOf(Set.of(b.asMode(null)), BehaviourSet.of(Set.of(b))));
+    }
+
+    @Test
+    public void testWildcards() {
+        var b = new Behaviour(uidB, mode);
+        var anyB = new Behaviour(uidB.asAnyCount(), mode);
+        var anyOrigin = new Behaviour(uidC.asAnyOrigin(), mode);
+        var c = new Behaviour(uidC, mode);
+
+        assertFalse(anyB.isConcrete());
+        assertFalse(anyOrigin.isConcrete());
+        // Concrete behaviours match wildcards in the set
+        assertTrue(BehaviourSet.of(Set.of(anyB, anyOrigin)).containsMatches(Set.of(b, c)));
+        // Wildcards match concrete behaviours in the set
+        assertTrue(BehaviourSet.of(Set.of(b, c)).containsMatches(Set.of(anyB, anyOrigin)));
+        assertFalse(BehaviourSet.of(Set.of(b)).containsMatch(anyOrigin));
+    }
+
+    @Test
+    public void testWithoutPredecessors() {
+        // The proxies report no predecessors by default
+        var pointB = new FaultInjectionPoint("B", "b1", "", (Predecessors) null, 0);
+        var b = new Behaviour(new FaultUid(List.of(pointA.asAnyPredecessors(), pointB)), mode);
+        var c = new Behaviour(new FaultUid(List.of(pointA.asAnyPredecessors(),
+                new FaultInjectionPoint("C", "c1", "", (Predecessors) null, 0))), mode);
+        var set = BehaviourSet.of(Set.of(b, c));
+
+        assertTrue(b.isConcrete());
+        assertSame(b, b.key());
+        // Both are looked up by their key, nothing is scanned
+        assertTrue(set.getWildcards().isEmpty());
+        assertTrue(set.containsMatch(b));
+
+        // A point with predecessors shares the bucket, and matches the point without
+        var withPredecessors = new Behaviour(new FaultUid(List.of(pointA,
+                pointB.withPredecessors(Map.of("A", 1)))), mode);
+        assertTrue(withPredecessors.isConcrete());
+        assertEquals(b, withPredecessors.key());
+        assertTrue(set.containsMatch(withPredecessors));
+        assertTrue(BehaviourSet.of(Set.of(withPredecessors)).containsMatch(b));
+        // Within the bucket, different predecessors do not match
+        var otherPredecessors = new Behaviour(new FaultUid(List.of(pointA,
+                pointB.withPredecessors(Map.of("A", 2)))), mode);
+        assertFalse(BehaviourSet.of(Set.of(withPredecessors)).containsMatch(otherPredecessors));
+    }
+}
@@ -0,0 +1,47 @@
+package dev.reynard.junit.unit.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+
+public class FailureModeTest {
+
+    @Test
+    public void testInterned() {
+        var mode = FailureMode.of("x", new ArrayList<>(List.of("1")));
+
+        assertSame(mode, FailureMode.of("x", List.of("1")));
+        assertNotEquals(mode.ordinal(), FailureMode.of("x", List.of("2")).ordinal());
+        assertSame(ErrorFault.fromError(HttpError.BAD_GATEWAY), ErrorFault.fromStatus(502));
+    }
+
+    @Test
+    public void testJsonShape() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        var mode = ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE);
+        String json = mapper.writeValueAsString(mode);
+
+        assertEquals("{\"type\":\"HTTP_ERROR\",\"args\":[\"503\"]}", json);
+        assertSame(mode, mapper.readValue(json, FailureMode.class));
+    }
+
+    @Test
+    public void testWithoutType() throws Exception {
+        var mode = new ObjectMapper().readValue("{\"args\":[\"1\"]}", FailureMode.class);
+
+        assertNull(mode.type());
+        assertSame(mode, FailureMode.of(null, List.of("1")));
+    }
+}
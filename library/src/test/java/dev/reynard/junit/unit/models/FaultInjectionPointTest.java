@@ -0,0 +1,51 @@
+package dev.reynard.junit.unit.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+
+public class FaultInjectionPointTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testEqualFromDistinctStrings() {
+        var p1 = new FaultInjectionPoint(new String("x"), new String("/a"), null, Map.of(), 0);
+        var p2 = new FaultInjectionPoint(new String("x"), new String("/a"), null, Map.of(), 0);
+
+        assertEquals(p1, p2);
+        assertEquals(p1.hashCode(), p2.hashCode());
+        assertNotEquals(p1, p2.withSignature("/b"));
+        assertEquals("x", p1.destination());
+        assertNull(p1.payload());
+    }
+
+    @Test
+    public void testWildcards() {
+        var point = new FaultInjectionPoint("x", "/a", "p", Map.of("y", 1), 2);
+
+        assertTrue(point.asAnySignature().matches(point));
+        assertTrue(point.asAnyPayload().isAnyPayload());
+        assertTrue(FaultInjectionPoint.Any().matches(point));
+        assertFalse(point.withDestination("y").matches(point));
+    }
+
+    @Test
+    public void testJsonShape() throws Exception {
+        var point = new FaultInjectionPoint("x", "/a", null, Map.of("y", 1), 2);
+        String json = mapper.writeValueAsString(point);
+
+        assertEquals("{\"destination\":\"x\",\"signature\":\"/a\",\"payload\":null,"
+                + "\"predecessors\":{\"y\":1},\"count\":2}", json);
+        assertEquals(point, mapper.readValue(json, FaultInjectionPoint.class));
+    }
+}
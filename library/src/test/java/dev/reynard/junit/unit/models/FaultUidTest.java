@@ -1,6 +1,8 @@
 package dev.reynard.junit.unit.models;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import dev.reynard.junit.faultload.FaultInjectionPoint;
 import dev.reynard.junit.faultload.FaultUid;
 
@@ -168,4 +172,29 @@ public class FaultUidTest {
             // Expected exception
         }
     }
+
+    @Test
+    public void testChildSharesParent() {
+        FaultUid child = uidA_B.asChild(pointC);
+
+        assertSame(uidA_B, child.getParent());
+        assertEquals(3, child.depth());
+        assertEquals(List.of(pointA, pointB, pointC), child.stack());
+        assertEquals(new FaultUid(List.of(pointA, pointB, pointC)), child);
+        assertEquals(new FaultUid(List.of(pointA, pointB, pointC)).hashCode(), child.hashCode());
+    }
+
+    @Test
+    public void testJsonStack() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        FaultUid uid = uidA_B.asChild(pointC);
+        String json = mapper.writeValueAsString(uid);
+
+        assertEquals(mapper.writeValueAsString(Map.of("stack", uid.stack())), json);
+        assertEquals(uid, mapper.readValue(json, FaultUid.class));
+
+        FaultUid any = FaultUid.anyTo(pointB);
+        assertEquals(any, mapper.readValue(mapper.writeValueAsString(any), FaultUid.class));
+        assertEquals(Arrays.asList(null, pointB), any.stack());
+    }
 }
@@ -0,0 +1,59 @@
+package dev.reynard.junit.unit.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.Predecessors;
+
+public class PredecessorsTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testOrderIndependent() {
+        Map<String, Integer> forward = new LinkedHashMap<>();
+        forward.put("x", 1);
+        forward.put("y", 2);
+        Map<String, Integer> backward = new LinkedHashMap<>();
+        backward.put("y", 2);
+        backward.put("x", 1);
+
+        assertEquals(Predecessors.of(forward), Predecessors.of(backward));
+        assertEquals(Predecessors.of(forward).hashCode(), Predecessors.of(backward).hashCode());
+        assertNotEquals(Predecessors.of(forward), Predecessors.of(Map.of("x", 1, "y", 3)));
+    }
+
+    @Test
+    public void testBeforeDisjoint() {
+        var cs1 = Predecessors.of(Map.of("x", 1));
+        var cs2 = Predecessors.of(Map.of("y", 1));
+
+        assertFalse(cs1.isBefore(cs2));
+        assertFalse(cs2.isBefore(cs1));
+        assertTrue(Predecessors.EMPTY.isBefore(cs1));
+    }
+
+    @Test
+    public void testJsonShape() throws Exception {
+        var point = new FaultInjectionPoint("A", "a1", "", Map.of("B:b1", 2, "C:c1", 0), 1);
+        String json = mapper.writeValueAsString(point);
+
+        // Serialized as a plain map, as the proxies expect
+        assertEquals(Map.of("B:b1", 2, "C:c1", 0),
+                mapper.readTree(json).get("predecessors").traverse(mapper).readValueAs(Map.class));
+        assertEquals(point, mapper.readValue(json, FaultInjectionPoint.class));
+
+        var any = FaultInjectionPoint.Any();
+        assertNull(mapper.readValue(mapper.writeValueAsString(any), FaultInjectionPoint.class).predecessors());
+    }
+}
@@ -0,0 +1,148 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.strategy.AnalysisScheduler;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.components.FeedbackContext;
+import dev.reynard.junit.strategy.components.FeedbackHandler;
+import dev.reynard.junit.strategy.components.StoreAccess;
+import dev.reynard.junit.strategy.components.analyzers.BehaviorAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.ConcurrencyDetector;
+import dev.reynard.junit.strategy.components.analyzers.ConditionalPointDetector;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.analyzers.StatusAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.TimingAnalyzer;
+import dev.reynard.junit.strategy.components.pruners.NoImpactPruner;
+import dev.reynard.junit.util.Explorations;
+
+public class AnalysisSchedulerTest {
+    private static class DependsOn implements FeedbackHandler {
+        private final StoreAccess access;
+        private final List<Class<? extends FeedbackHandler>> dependencies;
+
+        DependsOn(StoreAccess access, List<Class<? extends FeedbackHandler>> dependencies) {
+            this.access = access;
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public void handleFeedback(FaultloadResult result, FeedbackContext context) {
+        }
+
+        @Override
+        public StoreAccess getStoreAccess() {
+            return access;
+        }
+
+        @Override
+        public List<Class<? extends FeedbackHandler>> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    @Test
+    public void testDependenciesFirst() {
+        var conditional = new ConditionalPointDetector();
+        var happyPath = new HappyPathDetector();
+        var parentChild = new ParentChildDetector();
+        var happensBefore = new HappensBeforeNeighbourDetector();
+        var errorPropagation = new ErrorPropagationDetector();
+
+        AnalysisScheduler scheduler = new AnalysisScheduler(
+                List.of(conditional, happensBefore, happyPath, parentChild, errorPropagation));
+
+        assertEquals(List.of(happyPath, parentChild, happensBefore, errorPropagation, conditional),
+                scheduler.getOrder());
+    }
+
+    @Test
+    public void testReadersAfterWriters() {
+        var behaviour = new BehaviorAnalyzer();
+        var timing = new TimingAnalyzer();
+        var happyPath = new HappyPathDetector();
+
+        AnalysisScheduler scheduler = new AnalysisScheduler(List.of(behaviour, timing, happyPath));
+        assertEquals(List.of(timing, happyPath, behaviour), scheduler.getOrder());
+    }
+
+    @Test
+    public void testImpactlessPrunerWritesStore() {
+        assertEquals(StoreAccess.STORE_READ, new NoImpactPruner(false).getStoreAccess());
+        assertEquals(StoreAccess.STORE_WRITE, new NoImpactPruner(true).getStoreAccess());
+    }
+
+    @Test
+    public void testCyclicDependencies() {
+        var first = new DependsOn(StoreAccess.STORE_WRITE, List.of(ParentChildDetector.class));
+        // Readers implicitly depend on all writers
+        var reader = new DependsOn(StoreAccess.STORE_READ, List.of());
+        var writer = new DependsOn(StoreAccess.STORE_WRITE, List.of(DependsOn.class));
+
+        assertThrows(IllegalStateException.class,
+                () -> new AnalysisScheduler(List.of(first, reader, writer)));
+    }
+
+    @Test
+    public void testWritersInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<FeedbackHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            handlers.add(new DependsOn(i % 2 == 0 ? StoreAccess.STORE_WRITE : StoreAccess.TRACE_ONLY, List.of()));
+        }
+
+        try {
+            List<FeedbackHandler> ran = Collections.synchronizedList(new ArrayList<>());
+            new AnalysisScheduler(handlers).run(executor, ran::add);
+
+            assertEquals(Set.copyOf(handlers), Set.copyOf(ran));
+            List<FeedbackHandler> writers = ran.stream()
+                    .filter(x -> x.getStoreAccess() == StoreAccess.STORE_WRITE)
+                    .toList();
+            assertEquals(handlers.stream().filter(x -> x.getStoreAccess() == StoreAccess.STORE_WRITE).toList(),
+                    writers);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Set<Fault>> explore(boolean parallel) throws Exception {
+        StrategyRunner runner = Explorations.getReductionRunner()
+                .withComponent(new ConditionalPointDetector())
+                .withComponent(new StatusAnalyzer())
+                .withComponent(new TimingAnalyzer())
+                .withComponent(new ConcurrencyDetector())
+                .withComponent(new BehaviorAnalyzer());
+
+        if (parallel) {
+            runner.withParallelAnalysis();
+        }
+
+        return Explorations.run(runner, Explorations.getController());
+    }
+
+    @Test
+    public void testParallelSameExploration() throws Exception {
+        List<Set<Fault>> sequential = explore(false);
+        List<Set<Fault>> parallel = explore(true);
+
+        assertTrue(sequential.size() > 1);
+        assertEquals(sequential, parallel);
+    }
+}
@@ -0,0 +1,77 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.components.ComponentAttribution;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.util.Explorations;
+
+public class AttributionTest {
+    private StrategyRunner explore(Object component) throws Exception {
+        StrategyRunner runner = Explorations.getRunner(component);
+        Explorations.run(runner, Explorations.getFlatController());
+        return runner;
+    }
+
+    @Test
+    public void testScopedToRunner() throws Exception {
+        StrategyRunner first = explore(new HappyPathDetector());
+        StrategyRunner second = explore(new ParentChildDetector());
+
+        assertTrue(first.getAttributions().containsKey("HappyPathDetector"));
+        assertFalse(first.getAttributions().containsKey("ParentChildDetector"));
+        assertEquals(Set.of("DynamicExplorationGenerator", "ParentChildDetector"),
+                second.getAttributions().keySet());
+    }
+
+    @Test
+    public void testOnlyNovelFactsCredited() throws Exception {
+        StrategyRunner runner = explore(new HappyPathDetector());
+        var attribution = runner.getAttributions().get("HappyPathDetector");
+
+        // Every run re-reports the happy path, but only the first report is new
+        assertEquals(runner.getStore().getHappyPath().size(), attribution.getNovel(ComponentAttribution.HAPPY_PATHS));
+        assertTrue(attribution.getReported(ComponentAttribution.HAPPY_PATHS) >= attribution
+                .getNovel(ComponentAttribution.HAPPY_PATHS));
+    }
+
+    @Test
+    public void testParallelRunners() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Callable<StrategyRunner>> tasks = List.of(
+                    () -> explore(new HappyPathDetector()),
+                    () -> explore(new HappyPathDetector()),
+                    () -> explore(new HappyPathDetector()),
+                    () -> explore(new HappyPathDetector()));
+
+            List<Future<StrategyRunner>> runners = executor.invokeAll(tasks);
+            var first = runners.get(0).get().getAttributions().get("HappyPathDetector");
+
+            for (var runner : runners) {
+                var attribution = runner.get().getAttributions().get("HappyPathDetector");
+                assertEquals(first.getNovel(ComponentAttribution.HAPPY_PATHS),
+                        attribution.getNovel(ComponentAttribution.HAPPY_PATHS));
+            }
+
+            assertNotSame(first, runners.get(1).get().getAttributions().get("HappyPathDetector"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dev.reynard.junit.unit.strategy;
+
+import static dev.reynard.junit.util.Explorations.getController;
+import static dev.reynard.junit.util.Explorations.getReductionRunner;
+import static dev.reynard.junit.util.Explorations.run;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.strategy.StrategyCheckpoint;
+import dev.reynard.junit.strategy.StrategyResultLog;
+import dev.reynard.junit.strategy.StrategyRunner;
+
+public class CheckpointTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResume() throws Exception {
+        var controller = getController();
+        List<Set<Fault>> expected = run(getReductionRunner(), controller);
+
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        // Interrupted run: the initial faultload + 2 test cases
+        List<Set<Fault>> first = run(getReductionRunner().withCheckpoint(checkpoint).withMaxTestCases(2), controller);
+        assertEquals(3, first.size());
+
+        StrategyRunner resumed = getReductionRunner().withCheckpoint(checkpoint).withResumeFrom(checkpoint);
+        List<Set<Fault>> second = run(resumed, controller);
+
+        // Only the remaining faultloads are executed
+        assertEquals(expected.subList(3, expected.size()), second);
+        assertEquals(expected.size(), resumed.statistics.getTotalRun());
+        assertEquals(expected.size(), new StrategyCheckpoint(checkpoint).load().size());
+    }
+
+    @Test
+    public void testIgnoreIncompleteEntry() throws Exception {
+        var controller = getController();
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        run(getReductionRunner().withCheckpoint(checkpoint).withMaxTestCases(1), controller);
+
+        // Simulate a crash while writing
+        Files.writeString(checkpoint, "{\"faults\":[{\"uid\"", StandardOpenOption.APPEND);
+
+        assertEquals(2, new StrategyCheckpoint(checkpoint).load().size());
+    }
+
+    @Test
+    public void testFreshRunTruncates() throws Exception {
+        var controller = getController();
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        List<Set<Fault>> first = run(getReductionRunner().withCheckpoint(checkpoint), controller);
+        List<Set<Fault>> second = run(getReductionRunner().withCheckpoint(checkpoint).withMaxTestCases(1), controller);
+
+        // Only the entries of the second run are kept
+        assertTrue(first.size() > second.size());
+        assertEquals(second.size(), Files.readAllLines(checkpoint).size());
+    }
+
+    @Test
+    public void testResumeAfterIncompleteEntry() throws Exception {
+        var controller = getController();
+        List<Set<Fault>> expected = run(getReductionRunner(), controller);
+
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        run(getReductionRunner().withCheckpoint(checkpoint).withMaxTestCases(1), controller);
+        // Simulate a crash while writing
+        Files.writeString(checkpoint, "{\"faults\":[{\"uid\"", StandardOpenOption.APPEND);
+
+        run(getReductionRunner().withCheckpoint(checkpoint).withResumeFrom(checkpoint), controller);
+
+        // The partial line is dropped, and no new entry is merged into it
+        assertEquals(expected.size(), Files.readAllLines(checkpoint).size());
+        assertEquals(expected.size(), new StrategyCheckpoint(checkpoint).load().size());
+    }
+
+    private void testResultLog(boolean compressed) throws Exception {
+        var controller = getController();
+        StrategyRunner runner = getReductionRunner();
+        Path file = StrategyResultLog.resolve(tempDir, compressed);
+        runner.withResultLog(file);
+
+        // Single faults fail the invariant
+        List<Set<Fault>> executed = run(runner, controller, faultload -> faultload.size() != 1);
+
+        long expectedFailures = executed.stream().filter(x -> x.size() == 1).count();
+        // Failures are kept in the log, not in memory
+        assertEquals(expectedFailures, runner.statistics.getTotalFailures());
+        assertTrue(runner.statistics.getFailures().isEmpty());
+
+        // Readable while the log is still open
+        List<String> traceIds = new ArrayList<>();
+        runner.getResultLog().forEach(entry -> traceIds.add(entry.get("trace_id").asText()));
+        assertEquals(executed.size(), traceIds.size());
+
+        runner.closeResultLog();
+
+        List<Integer> sizes = new ArrayList<>();
+        runner.getResultLog().forEach(entry -> {
+            if (!entry.get("passed").asBoolean()) {
+                sizes.add(entry.get("faultload").size());
+            }
+            assertTrue(entry.get("observed").size() > 0);
+        });
+
+        assertEquals(expectedFailures, sizes.size());
+        assertTrue(sizes.stream().allMatch(x -> x == 1));
+    }
+
+    @Test
+    public void testResultLog() throws Exception {
+        testResultLog(false);
+    }
+
+    @Test
+    public void testCompressedResultLog() throws Exception {
+        testResultLog(true);
+    }
+
+    private List<Long> loggedIndices(StrategyRunner runner) throws Exception {
+        runner.closeResultLog();
+        List<Long> indices = new ArrayList<>();
+        runner.getResultLog().forEach(entry -> indices.add(entry.get("index").asLong()));
+        return indices;
+    }
+
+    @Test
+    public void testResultLogPerRun() throws Exception {
+        var controller = getController();
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        Path log = StrategyResultLog.resolve(tempDir, false);
+
+        StrategyRunner first = getReductionRunner().withCheckpoint(checkpoint).withResultLog(log);
+        List<Set<Fault>> all = run(first, controller);
+        assertEquals(all.size(), loggedIndices(first).size());
+
+        // A fresh run into the same directory replaces the log
+        StrategyRunner second = getReductionRunner().withCheckpoint(checkpoint).withResultLog(log).withMaxTestCases(1);
+        List<Set<Fault>> partial = run(second, controller);
+        assertEquals(List.of(0L, 1L), loggedIndices(second));
+        assertEquals(2, partial.size());
+
+        // Resuming from the same directory continues the log
+        StrategyRunner resumed = getReductionRunner().withCheckpoint(checkpoint).withResultLog(log)
+                .withResumeFrom(checkpoint);
+        run(resumed, controller);
+
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < all.size(); i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, loggedIndices(resumed));
+    }
+
+    @Test
+    public void testResumeCompressedResultLog() throws Exception {
+        var controller = getController();
+        Path checkpoint = tempDir.resolve(StrategyCheckpoint.FILE_NAME);
+        Path log = StrategyResultLog.resolve(tempDir, true);
+        List<Set<Fault>> all = run(getReductionRunner(), controller);
+
+        // Killed run: the log is never closed, so its gzip trailer is missing
+        StrategyRunner killed = getReductionRunner().withCheckpoint(checkpoint).withResultLog(log)
+                .withMaxTestCases(1);
+        run(killed, controller);
+
+        StrategyRunner resumed = getReductionRunner().withCheckpoint(checkpoint).withResultLog(log)
+                .withResumeFrom(checkpoint);
+        run(resumed, controller);
+
+        // Entries of both runs are readable, in order
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < all.size(); i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, loggedIndices(resumed));
+    }
+}
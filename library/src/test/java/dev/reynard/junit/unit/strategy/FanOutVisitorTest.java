@@ -0,0 +1,117 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.instrumentation.trace.tree.TraceReport;
+import dev.reynard.junit.strategy.AnalysisScheduler;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.FanOutVisitor;
+import dev.reynard.junit.strategy.components.FeedbackContext;
+import dev.reynard.junit.strategy.components.ReportVisitor;
+import dev.reynard.junit.strategy.components.analyzers.BehaviorAnalyzer;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.util.Explorations;
+
+public class FanOutVisitorTest {
+    private static class Recorder implements ReportVisitor {
+        private final boolean visit;
+        private final List<TraceReport> visited = new ArrayList<>();
+
+        Recorder(boolean visit) {
+            this.visit = visit;
+        }
+
+        @Override
+        public boolean startVisit(FaultloadResult result, FeedbackContext context) {
+            return visit;
+        }
+
+        @Override
+        public void visitReport(TraceReport report, FaultloadResult result, FeedbackContext context) {
+            visited.add(report);
+        }
+    }
+
+    @Test
+    public void testTraversalCached() {
+        TraceAnalysis trace = Explorations.getController().getTrace(new Faultload(Set.of()));
+
+        assertSame(trace.getReports(TraversalOrder.BREADTH_FIRST), trace.getReports(TraversalOrder.BREADTH_FIRST));
+        assertSame(trace.getFaultUids(TraversalOrder.DEPTH_FIRST_POST_ORDER),
+                trace.getFaultUids(TraversalOrder.DEPTH_FIRST_POST_ORDER));
+        assertEquals(trace.getReports().size(), trace.getReports(TraversalOrder.BREADTH_FIRST).size());
+    }
+
+    @Test
+    public void testVisitorsShareOrder() {
+        var controller = Explorations.getController();
+        var first = new Recorder(true);
+        var second = new Recorder(true);
+        var skipped = new Recorder(false);
+
+        FanOutVisitor fanOut = new FanOutVisitor(first, skipped, second);
+        var initial = new TrackedFaultload();
+        FaultloadResult result = new FaultloadResult(initial, controller.getTrace(initial.getFaultload()), true);
+        fanOut.handleFeedback(result, (FeedbackContext) null);
+
+        assertEquals(result.trace.getReports(TraversalOrder.BREADTH_FIRST), first.visited);
+        assertEquals(first.visited, second.visited);
+        assertTrue(skipped.visited.isEmpty());
+    }
+
+    private List<Set<Fault>> explore(boolean fanOut) throws Exception {
+        StrategyRunner runner = fanOut
+                ? Explorations.getRunner(
+                        new HappyPathDetector(),
+                        new FanOutVisitor(new ParentChildDetector(), new HappensBeforeNeighbourDetector()),
+                        new ErrorPropagationDetector(),
+                        new DynamicReductionPruner())
+                : Explorations.getReductionRunner();
+
+        List<Set<Fault>> executed = Explorations.run(runner, Explorations.getController());
+
+        if (fanOut) {
+            // Feedback is attributed to the visitors themselves
+            assertTrue(runner.getAttributions().containsKey("ParentChildDetector"));
+        }
+
+        return executed;
+    }
+
+    @Test
+    public void testReadersNotCombinedWithWriters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FanOutVisitor(new ParentChildDetector(), new BehaviorAnalyzer()));
+
+        // Readers still run after all writers
+        var fanOut = new FanOutVisitor(new ParentChildDetector(), new HappensBeforeNeighbourDetector());
+        var behaviour = new BehaviorAnalyzer();
+        var propagation = new ErrorPropagationDetector();
+        var order = new AnalysisScheduler(List.of(fanOut, behaviour, propagation)).getOrder();
+        assertEquals(behaviour, order.get(order.size() - 1));
+    }
+
+    @Test
+    public void testSameExploration() throws Exception {
+        assertEquals(explore(false), explore(true));
+    }
+}
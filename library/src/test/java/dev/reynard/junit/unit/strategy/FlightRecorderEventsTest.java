@@ -0,0 +1,60 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.reynard.junit.util.Explorations;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStrategyEventsRecorded() throws Exception {
+        Path file = tempDir.resolve("strategy.jfr");
+
+        try (Recording recording = new Recording()) {
+            for (var name : List.of("reynard.Generate", "reynard.Prune", "reynard.Analyze",
+                    "reynard.ExpectedBehaviour")) {
+                recording.enable(name).withoutThreshold();
+            }
+
+            recording.start();
+            Explorations.run(Explorations.getReductionRunner(), Explorations.getFlatController());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Set<String> types = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet());
+
+        assertTrue(types.contains("reynard.Generate"));
+        assertTrue(types.contains("reynard.Prune"));
+        assertTrue(types.contains("reynard.Analyze"));
+        assertTrue(types.contains("reynard.ExpectedBehaviour"));
+
+        List<RecordedEvent> analyzed = events.stream()
+                .filter(event -> event.getEventType().getName().equals("reynard.Analyze"))
+                .toList();
+        assertFalse(analyzed.isEmpty());
+
+        for (var event : analyzed) {
+            assertNotNull(event.getString("traceId"));
+            assertNotNull(event.getString("component"));
+        }
+    }
+}
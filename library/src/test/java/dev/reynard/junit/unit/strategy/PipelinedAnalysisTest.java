@@ -0,0 +1,106 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.FeedbackContext;
+import dev.reynard.junit.strategy.components.FeedbackHandler;
+import dev.reynard.junit.util.Explorations;
+
+public class PipelinedAnalysisTest {
+    private static class BlockingAnalyzer implements FeedbackHandler {
+        private final CountDownLatch nextExecuted = new CountDownLatch(1);
+        private final AtomicBoolean blocked = new AtomicBoolean(false);
+        private volatile boolean overlapped = false;
+
+        @Override
+        public void handleFeedback(FaultloadResult result, FeedbackContext context) {
+            // Block the analysis of the first test case until the next one ran
+            if (result.isInitial() || blocked.getAndSet(true)) {
+                return;
+            }
+
+            try {
+                overlapped = nextExecuted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<Set<Fault>> explore(boolean pipelined) throws Exception {
+        var controller = Explorations.getController();
+        StrategyRunner runner = Explorations.getReductionRunner();
+
+        if (pipelined) {
+            runner.withPipelinedAnalysis();
+        }
+
+        List<Set<Fault>> executed = new ArrayList<>();
+        while (true) {
+            TrackedFaultload faultload = runner.nextFaultload();
+            if (faultload == null) {
+                break;
+            }
+
+            // Results of faultloads that turned out to be redundant are dropped
+            if (runner.submitResult(new FaultloadResult(faultload, controller.getTrace(faultload), true))) {
+                executed.add(faultload.getFaultload().faultSet());
+            }
+            runner.registerTime(faultload);
+        }
+
+        runner.awaitAnalysis();
+        return executed;
+    }
+
+    @Test
+    public void testSameExploration() throws Exception {
+        List<Set<Fault>> sequential = explore(false);
+        List<Set<Fault>> pipelined = explore(true);
+
+        assertTrue(sequential.size() > 1);
+        // The order can differ, as the next faultload is picked before analysis
+        assertEquals(Set.copyOf(sequential), Set.copyOf(pipelined));
+        assertEquals(pipelined.size(), new HashSet<>(pipelined).size());
+    }
+
+    @Test
+    public void testExecutionOverlapsAnalysis() throws Exception {
+        var controller = Explorations.getController();
+        var analyzer = new BlockingAnalyzer();
+        StrategyRunner runner = Explorations.getReductionRunner().withComponent(analyzer).withPipelinedAnalysis();
+
+        // Initial run, and the first test case, whose analysis blocks
+        for (int i = 0; i < 2; i++) {
+            TrackedFaultload faultload = runner.nextFaultload();
+            assertTrue(runner.submitResult(new FaultloadResult(faultload, controller.getTrace(faultload), true)));
+        }
+
+        // The next test case is handed out and run while the analysis is blocked,
+        // in the same order as the extension does
+        TrackedFaultload next = runner.nextFaultload();
+        assertNotNull(next);
+        var trace = controller.getTrace(next);
+        analyzer.nextExecuted.countDown();
+
+        // Only now the result waits for the analysis
+        runner.submitResult(new FaultloadResult(next, trace, true));
+        assertTrue(analyzer.overlapped);
+    }
+}
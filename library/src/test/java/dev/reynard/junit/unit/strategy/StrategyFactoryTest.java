@@ -0,0 +1,38 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.strategy.StrategyFactory;
+import dev.reynard.junit.strategy.StrategyRunner;
+
+public class StrategyFactoryTest {
+
+    private static boolean hasComponent(List<String> names, String component) {
+        return names.stream().anyMatch(x -> x.equals(component) || x.startsWith(component + "("));
+    }
+
+    @Test
+    public void testStandardComponents() {
+        StrategyRunner strategy = new StrategyFactory().create();
+        List<String> names = strategy.getComponentNames();
+
+        assertEquals(StrategyFactory.DEFAULT_MODES.size(), strategy.getStore().getModes().size());
+        assertTrue(hasComponent(names, "ConditionalPointDetector"));
+        assertTrue(hasComponent(names, "UnreachabilityPruner"));
+        assertTrue(hasComponent(names, "NoImpactPruner"));
+        assertTrue(hasComponent(names, "DynamicReductionPruner"));
+        // Visitors in a shared pass keep their own reports
+        assertTrue(hasComponent(names, "BehaviorAnalyzer"));
+        assertTrue(hasComponent(names, "TimingAnalyzer"));
+        assertFalse(hasComponent(names, "FaultloadSizePruner"));
+
+        names = new StrategyFactory().withMaxFaultloadSize(2).create().getComponentNames();
+        assertTrue(hasComponent(names, "FaultloadSizePruner"));
+    }
+}
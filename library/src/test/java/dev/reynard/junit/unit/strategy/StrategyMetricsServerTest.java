@@ -0,0 +1,48 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.util.Explorations;
+
+public class StrategyMetricsServerTest {
+    @Test
+    public void testServesProgress() throws Exception {
+        StrategyRunner runner = Explorations.getReductionRunner().withMetricsEndpoint(0);
+        runner.setContextName("Test#\"quoted\"");
+
+        try {
+            int runs = Explorations.run(runner, Explorations.getFlatController()).size();
+
+            var request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + runner.getMetricsServer().getPort() + "/metrics")).build();
+            HttpResponse<String> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            String body = response.body();
+            String context = "context=\"Test#\\\"quoted\\\"\"";
+
+            assertTrue(body.contains("# TYPE reynard_tests_run_total counter"));
+            assertTrue(body.contains("reynard_tests_run_total{" + context + "} " + runs));
+            assertTrue(body.contains("reynard_frontier_size{" + context + "} 0"));
+            assertTrue(body.contains("reynard_fault_injection_points{" + context + "} 2"));
+            assertTrue(body.contains("reynard_historic_results{" + context + "} " + runs));
+            // Sizes are published by the strategy, not read from the store
+            assertEquals(runs, runner.statistics.getHistoricResultCount());
+            assertTrue(body.contains("reynard_timing_seconds_count{" + context
+                    + ",tag=\"DynamicReductionPruner.prune<Pruner>\"}"));
+            assertTrue(body.contains("reynard_heap_used_bytes{"));
+        } finally {
+            runner.stopMetricsEndpoint();
+        }
+    }
+}
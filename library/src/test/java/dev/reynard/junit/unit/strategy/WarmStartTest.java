@@ -0,0 +1,193 @@
+package dev.reynard.junit.unit.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.FaultInjectionPoint;
+import dev.reynard.junit.faultload.FaultUid;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.SuiteKnowledge;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+import dev.reynard.junit.strategy.store.StoreSnapshot;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.util.EventBuilder;
+
+public class WarmStartTest {
+    private final FailureMode mode = ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE);
+
+    @TempDir
+    Path tempDir;
+
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder b1 = b.createChild("B1");
+    private final EventBuilder b2 = b.createChild("B2");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+    private final EventBuilder e = c.createChild("E");
+
+    private ImplicationsStore getModel(boolean changed) {
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(b.uid(), List.of(b1.uid(), b2.uid()));
+
+        if (changed) {
+            // C now also calls E
+            model.addDownstreamRequests(c.uid(), List.of(d.uid(), e.uid()));
+        } else {
+            model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+        }
+
+        return model;
+    }
+
+    private StrategyRunner getRunner() {
+        StrategyRunner runner = new StrategyRunner(List.of(mode));
+        runner
+                .withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                        TraversalOrder.DEPTH_FIRST_POST_ORDER, true))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector())
+                .withComponent(new HappensBeforeNeighbourDetector())
+                .withComponent(new ErrorPropagationDetector())
+                .withComponent(new DynamicReductionPruner());
+        return runner;
+    }
+
+    private List<Set<Fault>> run(StrategyRunner runner, SimulatedController controller) throws Exception {
+        List<Set<Fault>> executed = new ArrayList<>();
+
+        while (true) {
+            TrackedFaultload faultload = runner.nextFaultload();
+            if (faultload == null) {
+                break;
+            }
+
+            executed.add(faultload.getFaultload().faultSet());
+            runner.handleResult(new FaultloadResult(faultload, controller.getTrace(faultload), true));
+        }
+
+        return executed;
+    }
+
+    private Path coldRun() throws Exception {
+        StrategyRunner runner = getRunner();
+        run(runner, new SimulatedController(getModel(false)));
+
+        Path model = tempDir.resolve(StoreSnapshot.FILE_NAME);
+        runner.exportModel(model);
+        return model;
+    }
+
+    private boolean onlyUnder(Set<Fault> faults, FaultUid parent) {
+        return !faults.isEmpty() && faults.stream().allMatch(f -> parent.equals(f.uid().getParent()));
+    }
+
+    @Test
+    public void testUnchangedSystem() throws Exception {
+        Path model = coldRun();
+
+        List<Set<Fault>> executed = run(getRunner().withWarmStart(model),
+                new SimulatedController(getModel(false)));
+
+        // Everything below A is unchanged, only the happy path is executed
+        assertEquals(List.of(Set.of()), executed);
+    }
+
+    @Test
+    public void testChangedSubtree() throws Exception {
+        Path model = coldRun();
+
+        List<Set<Fault>> cold = run(getRunner(), new SimulatedController(getModel(true)));
+        List<Set<Fault>> warm = run(getRunner().withWarmStart(model), new SimulatedController(getModel(true)));
+
+        // Faults handled by the unchanged B are not executed again
+        for (var faults : warm) {
+            assertFalse(onlyUnder(faults, b.uid()));
+        }
+
+        // The new call to E is explored
+        assertTrue(warm.stream().anyMatch(x -> x.stream().anyMatch(f -> f.uid().equals(e.uid()))));
+        assertTrue(warm.size() < cold.size());
+        // Everything that is executed, would have been executed in a cold start
+        assertTrue(new HashSet<>(cold).containsAll(warm));
+    }
+
+    @Test
+    public void testStableSubtrees() throws Exception {
+        StoreSnapshot snapshot = StoreSnapshot.read(coldRun());
+
+        StrategyRunner runner = getRunner();
+        var controller = new SimulatedController(getModel(true));
+        var initial = new TrackedFaultload();
+        runner.handleResult(new FaultloadResult(initial, controller.getTrace(initial), true));
+
+        Set<FaultUid> stable = snapshot.getStableSubtrees(runner.getStore().getHappyPath());
+        assertEquals(Set.of(b.uid(), b1.uid(), b2.uid(), d.uid()), stable);
+
+        assertTrue(StoreSnapshot.isCovered(stable, Set.of(b1.uid(), b2.uid())));
+        assertFalse(StoreSnapshot.isCovered(stable, Set.of(b1.uid(), d.uid())));
+        assertFalse(StoreSnapshot.isCovered(stable, Set.of(b.uid())));
+    }
+
+    // Two tests that reach the same B through a different entry point
+    private ImplicationsStore getSuiteModel(String entry, String sibling) {
+        EventBuilder root = new EventBuilder(entry);
+        EventBuilder shared = root.createChild("S");
+        EventBuilder service = shared.createChild("B");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(root.uid(), List.of(shared.uid()));
+        model.addDownstreamRequests(shared.uid(), List.of(service.uid(), shared.createChild(sibling).uid()));
+        model.addDownstreamRequests(service.uid(),
+                List.of(service.createChild("B1").uid(), service.createChild("B2").uid()));
+        return model;
+    }
+
+    @Test
+    public void testSharedSubtree() throws Exception {
+        SuiteKnowledge knowledge = new SuiteKnowledge();
+        StrategyRunner first = getRunner().withSuiteKnowledge(knowledge);
+        run(first, new SimulatedController(getSuiteModel("R", "C")));
+        first.publishKnowledge();
+
+        var model = getSuiteModel("Q", "D");
+        List<Set<Fault>> cold = run(getRunner(), new SimulatedController(model));
+        StrategyRunner second = getRunner().withSuiteKnowledge(knowledge);
+        List<Set<Fault>> shared = run(second, new SimulatedController(model));
+
+        // Only the subtree of B is shared, it is re-rooted onto the second test
+        FaultUid service = model.getRootCause()
+                .asChild(new FaultInjectionPoint("S", "S1", "", Map.of(), 0))
+                .asChild(new FaultInjectionPoint("B", "B1", "", Map.of(), 0));
+        StoreSnapshot snapshot = knowledge.getSnapshots().get(0).reroot(second.getStore().getHappyPath());
+        assertEquals(List.of(service), snapshot.downstreamRequests().stream().map(x -> x.cause()).toList());
+
+        assertTrue(shared.size() < cold.size());
+        assertTrue(new HashSet<>(cold).containsAll(shared));
+    }
+}
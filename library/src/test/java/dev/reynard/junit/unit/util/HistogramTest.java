@@ -0,0 +1,67 @@
+package dev.reynard.junit.unit.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.strategy.util.Histogram;
+
+public class HistogramTest {
+
+    @Test
+    public void testExactForSmallValues() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5, histogram.getMean(), 1e-9);
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(90));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testBoundedRelativeError() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 1_000_000; i++) {
+            histogram.record(i);
+        }
+
+        double[] percentiles = { 50, 90, 99, 99.9 };
+        for (double percentile : percentiles) {
+            double expected = percentile * 10_000;
+            double actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected);
+            assertTrue(Math.abs(actual - expected) / expected < 0.04);
+        }
+
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testEmpty() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void testBeyondLastBucket() {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+        histogram.record(1L << 50);
+
+        assertEquals(1L << 50, histogram.getMax());
+        assertEquals(1L << 50, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getValueAtPercentile(50));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+}
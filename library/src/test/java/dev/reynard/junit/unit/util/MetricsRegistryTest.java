@@ -0,0 +1,88 @@
+package dev.reynard.junit.unit.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.util.MetricsRegistry;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        var timer = metrics.timer("prune");
+        var counter = metrics.counter("pruned");
+        assertSame(timer, metrics.timer("prune"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (int j = 1; j <= 1000; j++) {
+                    timer.record(j);
+                    counter.increment(1);
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(4000, timer.getCount());
+        assertEquals(4000, counter.get());
+        assertEquals(1, timer.getMin());
+        assertEquals(1000, timer.getMax());
+        assertEquals(500.5, timer.getMean(), 1e-9);
+        // Raw values are not kept by default
+        assertTrue(timer.getValues().isEmpty());
+    }
+
+    @Test
+    public void testWithoutSampling() {
+        MetricsRegistry metrics = new MetricsRegistry().withSampling(false);
+        var timer = metrics.timer("getExpectedPoints");
+
+        long start = timer.start();
+        timer.stop(start);
+
+        assertEquals(0, timer.getCount());
+        assertEquals(List.of(timer), metrics.getTimers());
+    }
+
+    @Test
+    public void testKeepValuesAndReset() {
+        MetricsRegistry metrics = new MetricsRegistry().withValues(true);
+        var timer = metrics.timer("Per test");
+        timer.record(5);
+        timer.record(7);
+
+        assertEquals(List.of(5L, 7L), timer.getValues());
+
+        metrics.reset();
+        assertEquals(0, timer.getCount());
+        assertTrue(timer.getValues().isEmpty());
+        assertSame(timer, metrics.timer("Per test"));
+    }
+
+    @Test
+    public void testGauge() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        var gauge = metrics.gauge("frontier_size");
+        gauge.set(12);
+        gauge.set(5);
+
+        assertEquals(5, gauge.get());
+        assertSame(gauge, metrics.gauge("frontier_size"));
+        assertEquals(List.of(gauge), metrics.getGauges());
+
+        metrics.reset();
+        assertEquals(0, gauge.get());
+    }
+}
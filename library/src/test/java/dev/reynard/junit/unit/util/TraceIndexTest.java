@@ -0,0 +1,90 @@
+package dev.reynard.junit.unit.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.reynard.junit.strategy.util.TraceAnalysis;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+import dev.reynard.junit.util.EventBuilder;
+
+public class TraceIndexTest {
+
+    @Test
+    public void testRelations() {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+        var e = c.createChild("E");
+
+        TraceAnalysis trace = a.buildTrace();
+
+        assertEquals(List.of(b.uid(), c.uid()), trace.getChildren(a.uid()));
+        assertEquals(List.of(d.build(), e.build()), trace.getChildren(c.build()));
+        assertEquals(List.of(), trace.getChildren(d.uid()));
+        assertEquals(c.uid(), trace.getParent(e.uid()));
+        assertNull(trace.getParent(a.uid()));
+
+        assertEquals(List.of(b.uid(), c.uid(), d.uid(), e.uid()), trace.getDecendants(a.uid()));
+        assertEquals(List.of(d.uid(), e.uid()), trace.getDecendants(c.uid()));
+        assertTrue(trace.isDecendantOf(a.uid(), e.uid()));
+        assertFalse(trace.isDecendantOf(b.uid(), e.uid()));
+        assertFalse(trace.isDecendantOf(e.uid(), e.uid()));
+    }
+
+    @Test
+    public void testNeighboursDoNotChangeTree() {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+
+        TraceAnalysis trace = a.buildTrace();
+
+        assertEquals(List.of(c.uid()), trace.getNeighbours(b.uid()));
+        assertEquals(List.of(b.uid()), trace.getNeighbours(c.uid()));
+        assertEquals(List.of(b.uid(), c.uid()), trace.getChildren(a.uid()));
+    }
+
+    @Test
+    public void testNeighbourAndDecendantReports() {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = a.createChild("D");
+        var e = c.createChild("E");
+
+        TraceAnalysis trace = a.buildTrace();
+
+        assertEquals(List.of(b.uid(), d.uid()), trace.getNeighbours(c.uid()));
+        assertEquals(List.of(b.build(), d.build()), trace.getNeighbours(c.build()));
+        assertEquals(List.of(c.build()), trace.getNeighbours(d.build()).subList(1, 2));
+        assertEquals(List.of(), trace.getNeighbours(e.build()));
+        assertEquals(List.of(), trace.getNeighbours(a.build()));
+
+        assertEquals(List.of(b.build(), c.build(), e.build(), d.build()), trace.getDecendants(a.build()));
+        assertEquals(List.of(e.build()), trace.getDecendants(c.build()));
+        assertEquals(List.of(), trace.getDecendants(e.build()));
+    }
+
+    @Test
+    public void testDeepTrace() {
+        var root = new EventBuilder("A");
+        var current = root;
+        for (int i = 0; i < 1000; i++) {
+            current = current.createChild("S" + i);
+        }
+
+        TraceAnalysis trace = root.buildTrace();
+
+        assertFalse(trace.isInvalid());
+        assertEquals(1000, trace.getDecendants(root.uid()).size());
+        assertTrue(trace.isDecendantOf(root.uid(), current.uid()));
+        assertEquals(1001, trace.getReports(TraversalOrder.BREADTH_FIRST).size());
+    }
+}
@@ -3,6 +3,7 @@ package dev.reynard.junit.unit.util;
 import static org.junit.Assert.assertEquals;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -66,4 +67,19 @@ public class TraversalTest {
         List<String> result = strategy.traverse("A", edges);
         assertEquals(List.of("A", "B", "D", "C", "E"), result);
     }
+
+    @Test
+    public void testAdjacencyFunction() {
+        Map<String, List<String>> children = Map.of(
+                "A", List.of("B", "D"),
+                "B", List.of("C"),
+                "D", List.of("E"));
+
+        for (var order : List.of(TraversalOrder.DEPTH_FIRST_PRE_ORDER, TraversalOrder.DEPTH_FIRST_POST_ORDER,
+                TraversalOrder.BREADTH_FIRST, TraversalOrder.BREADTH_FIRST_REVERSE)) {
+            TraversalStrategy<String> strategy = new TraversalStrategy<>(order);
+            assertEquals(strategy.traverse("A", edges),
+                    strategy.traverse("A", x -> children.getOrDefault(x, List.of())));
+        }
+    }
 }
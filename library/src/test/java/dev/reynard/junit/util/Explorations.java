@@ -0,0 +1,101 @@
+package dev.reynard.junit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import dev.reynard.junit.faultload.Fault;
+import dev.reynard.junit.faultload.Faultload;
+import dev.reynard.junit.faultload.modes.ErrorFault;
+import dev.reynard.junit.faultload.modes.FailureMode;
+import dev.reynard.junit.faultload.modes.HttpError;
+import dev.reynard.junit.instrumentation.SimulatedController;
+import dev.reynard.junit.strategy.FaultloadResult;
+import dev.reynard.junit.strategy.StrategyRunner;
+import dev.reynard.junit.strategy.TrackedFaultload;
+import dev.reynard.junit.strategy.components.analyzers.ErrorPropagationDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappensBeforeNeighbourDetector;
+import dev.reynard.junit.strategy.components.analyzers.HappyPathDetector;
+import dev.reynard.junit.strategy.components.analyzers.ParentChildDetector;
+import dev.reynard.junit.strategy.components.generators.DynamicExplorationGenerator;
+import dev.reynard.junit.strategy.components.pruners.DynamicReductionPruner;
+import dev.reynard.junit.strategy.store.ImplicationsStore;
+import dev.reynard.junit.strategy.util.traversal.TraversalOrder;
+
+/** Small simulated systems and strategies to explore them end-to-end. */
+public class Explorations {
+    public static final FailureMode MODE = ErrorFault.fromError(HttpError.SERVICE_UNAVAILABLE);
+
+    /** A calls B and C */
+    public static SimulatedController getFlatController() {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        return new SimulatedController(model);
+    }
+
+    /** A calls B and C, and C calls D */
+    public static SimulatedController getController() {
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+        return new SimulatedController(model);
+    }
+
+    /** A strategy with only the generator, followed by the given components */
+    public static StrategyRunner getRunner(Object... components) {
+        StrategyRunner runner = new StrategyRunner(List.of(MODE));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, true));
+
+        for (var component : components) {
+            runner.withComponent(component);
+        }
+
+        return runner;
+    }
+
+    /** A strategy with the components required for dynamic reduction */
+    public static StrategyRunner getReductionRunner() {
+        return getRunner(
+                new HappyPathDetector(),
+                new ParentChildDetector(),
+                new HappensBeforeNeighbourDetector(),
+                new ErrorPropagationDetector(),
+                new DynamicReductionPruner());
+    }
+
+    /** Run all faultloads of the strategy, all of which pass */
+    public static List<Set<Fault>> run(StrategyRunner runner, SimulatedController controller) throws Exception {
+        return run(runner, controller, faultload -> true);
+    }
+
+    /** Run all faultloads of the strategy, and return the executed fault sets in order */
+    public static List<Set<Fault>> run(StrategyRunner runner, SimulatedController controller,
+            Predicate<Faultload> passed) throws Exception {
+        List<Set<Fault>> executed = new ArrayList<>();
+
+        while (true) {
+            TrackedFaultload faultload = runner.nextFaultload();
+            if (faultload == null) {
+                break;
+            }
+
+            executed.add(faultload.getFaultload().faultSet());
+            runner.statistics.registerRun();
+            runner.handleResult(new FaultloadResult(faultload, controller.getTrace(faultload),
+                    passed.test(faultload.getFaultload())));
+        }
+
+        return executed;
+    }
+}
@@ -8,7 +8,7 @@ import dev.reynard.junit.faultload.modes.FailureMode;
 public class FailureModes {
     public static FailureMode getMode(int i) {
         String istr = "" + i;
-        return new FailureMode(istr, List.of(istr));
+        return FailureMode.of(istr, List.of(istr));
     }
 
     public static List<FailureMode> getModes(int n) {
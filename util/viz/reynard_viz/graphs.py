@@ -6,7 +6,7 @@ import numpy as np
 import reynard_viz.config as config
 from reynard_viz.call_graph import render_call_graph
 from reynard_viz.tree_viz import render_tree
-from reynard_viz.util import find_json, get_json
+from reynard_viz.util import find_json, get_json, get_timing_values
 
 
 def get_args():
@@ -117,9 +117,10 @@ def render_for_dir(json_dir: str):
     timings: tuple[str, list[float]] = []
 
     for key in TIMINGS_OF_INTEREST:
-        if key not in timing_data['details']:
+        values = get_timing_values(timing_data, key)
+        if values is None:
             continue
-        dataset = np.array(timing_data['details'][key])
+        dataset = np.array(values)
         timings.append((key, dataset))
         if key in TIMINGS_OF_INTEREST_OVER_TIME:
             render_timing_over_index(key, dataset, json_dir)
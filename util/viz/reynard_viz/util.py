@@ -19,3 +19,21 @@ def find_json(dir: str, s: str):
                 return os.path.join(root, file)
     print(f"JSON file with '{s}' not found in {dir}")
     return None
+
+
+def get_timing_values(timing_data: dict, key: str):
+    """Raw samples of a timer, or None if the timer was never used.
+
+    The raw samples are only reported when the run had TIMING_VALUES=true,
+    otherwise timing.json only holds the summary under 'stats'.
+    """
+    details = timing_data.get('details', {})
+    if key in details:
+        return details[key]
+
+    if key in timing_data.get('stats', {}):
+        raise RuntimeError(
+            f"timing.json has no raw values for '{key}', "
+            "rerun the tests with TIMING_VALUES=true to render timing graphs")
+
+    return None
@@ -11,7 +11,7 @@ from reynard_viz.graphs import (TIMINGS_OF_INTEREST,
                                 render_distribution_of_timing,
                                 render_queue_size_graph,
                                 render_timing_over_index, render_tree)
-from reynard_viz.util import find_json, get_json
+from reynard_viz.util import find_json, get_json, get_timing_values
 
 
 class DataLoader:
@@ -123,9 +123,9 @@ def render_statistics(loader: DataLoader, directory: str, over_time: bool = Fals
 
     for timing_data in loader.timing_data:
         for key in TIMINGS_OF_INTEREST:
-            if key not in timing_data['details']:
+            dataset: list = get_timing_values(timing_data, key)
+            if dataset is None:
                 continue
-            dataset: list = timing_data['details'][key]
             if key not in timings_per_key:
                 timings_per_key[key] = []
             timings_per_key[key].extend(dataset)
@@ -153,7 +153,7 @@ def render_statistics(loader: DataLoader, directory: str, over_time: bool = Fals
 
     test_timer_per_iteration = []
     for timing_data in loader.timing_data:
-        if 'Total test time' in timing_data['details']:
+        if 'Total test time' in timing_data['stats']:
             avg_time = timing_data['stats']['Total test time']['average']['ns']
             test_timer_per_iteration.append(avg_time)
 
@@ -164,8 +164,7 @@ def render_statistics(loader: DataLoader, directory: str, over_time: bool = Fals
     pruner_data = loader.reference_pruner_data
     search_space_data = loader.reference_search_space
     # Convert to seconds
-    test_time_data = np.array(
-        timings_per_key.get("Total test time", [])) * 1e-9
+    test_time_data = np.array(test_timer_per_iteration) * 1e-9
     dynamic_reduction = 0
     if 'DynamicReductionPruner' in pruner_data:
         dynamic_reduction = pruner_data['DynamicReductionPruner']['directly_pruned']['count']